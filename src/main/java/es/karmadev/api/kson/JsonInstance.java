@@ -5,7 +5,6 @@ import es.karmadev.api.kson.io.JsonWriter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.StringWriter;
 import java.util.Map;
 
 /**
@@ -539,13 +538,11 @@ public abstract class JsonInstance {
      * @return the string representation
      */
     public String toString(final boolean pretty, final int indentation) {
-        StringWriter writer = new StringWriter();
         JsonWriter jsonWriter = new JsonWriter(this);
         jsonWriter.setPrettyPrinting(pretty);
         jsonWriter.setIndentation(indentation);
 
-        jsonWriter.export(writer);
-        return writer.toString();
+        return jsonWriter.export();
     }
 
     /**
@@ -594,11 +591,9 @@ public abstract class JsonInstance {
      */
     @Override
     public String toString() {
-        StringWriter writer = new StringWriter();
         JsonWriter jsonWriter = new JsonWriter(this);
         jsonWriter.setPrettyPrinting(false);
-        jsonWriter.export(writer);
 
-        return writer.toString();
+        return jsonWriter.export();
     }
 }
@@ -7,6 +7,9 @@ import es.karmadev.api.kson.object.type.NativeString;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
 /**
  * Represents a json instances which
  * holds a java native element
@@ -317,4 +320,33 @@ public abstract class JsonNative extends JsonInstance {
     public double getDouble() throws UnsupportedOperationException {
         return getNumber().doubleValue();
     }
+
+    /**
+     * Get the big decimal value of the element
+     *
+     * @return the number element
+     * @throws UnsupportedOperationException if the element
+     * is not a number
+     */
+    public BigDecimal getBigDecimal() throws UnsupportedOperationException {
+        Number number = getNumber();
+        if (number instanceof BigDecimal) return (BigDecimal) number;
+        if (number instanceof BigInteger) return new BigDecimal((BigInteger) number);
+
+        return new BigDecimal(number.toString());
+    }
+
+    /**
+     * Get the big integer value of the element
+     *
+     * @return the number element
+     * @throws UnsupportedOperationException if the element
+     * is not a number
+     */
+    public BigInteger getBigInteger() throws UnsupportedOperationException {
+        Number number = getNumber();
+        if (number instanceof BigInteger) return (BigInteger) number;
+
+        return getBigDecimal().toBigInteger();
+    }
 }
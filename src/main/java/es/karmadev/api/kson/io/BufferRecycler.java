@@ -0,0 +1,133 @@
+package es.karmadev.api.kson.io;
+
+import java.lang.ref.SoftReference;
+
+/**
+ * Represents a per thread store of scratch
+ * buffers. Parsing and writing similar jsons over
+ * and over again needs the same buffers every time,
+ * so once a parser or writer is done with its buffers
+ * it gives them back, and the next one on the same
+ * thread takes them instead of allocating new ones.
+ * A buffer is handed out only once until it's given
+ * back, so nested parsers or writers simply allocate
+ * their own buffers
+ */
+final class BufferRecycler {
+
+    /**
+     * The largest buffer which is
+     * kept to be reused
+     */
+    private final static int MAX_SIZE = 1 << 20;
+
+    private final static ThreadLocal<SoftReference<BufferRecycler>> RECYCLERS = new ThreadLocal<>();
+
+    private byte[] bytes;
+    private char[] chars;
+    private StringBuilder builder;
+
+    private final char[] digits = new char[NumberWriter.MAX_LENGTH];
+
+    private BufferRecycler() {}
+
+    /**
+     * Get the recycler of the
+     * current thread
+     *
+     * @return the thread recycler
+     */
+    static BufferRecycler get() {
+        SoftReference<BufferRecycler> reference = RECYCLERS.get();
+        BufferRecycler recycler = (reference != null ? reference.get() : null);
+        if (recycler == null) {
+            recycler = new BufferRecycler();
+            RECYCLERS.set(new SoftReference<>(recycler));
+        }
+
+        return recycler;
+    }
+
+    /**
+     * Take a byte buffer
+     *
+     * @param size the minimum buffer size
+     * @return the buffer
+     */
+    byte[] takeBytes(final int size) {
+        byte[] buffer = bytes;
+        if (buffer == null || buffer.length < size) return new byte[size];
+
+        bytes = null;
+        return buffer;
+    }
+
+    /**
+     * Give back a byte buffer
+     *
+     * @param buffer the buffer
+     */
+    void giveBytes(final byte[] buffer) {
+        if (buffer.length > MAX_SIZE) return;
+        if (bytes == null || bytes.length < buffer.length) bytes = buffer;
+    }
+
+    /**
+     * Take a char buffer
+     *
+     * @param size the minimum buffer size
+     * @return the buffer
+     */
+    char[] takeChars(final int size) {
+        char[] buffer = chars;
+        if (buffer == null || buffer.length < size) return new char[size];
+
+        chars = null;
+        return buffer;
+    }
+
+    /**
+     * Give back a char buffer
+     *
+     * @param buffer the buffer
+     */
+    void giveChars(final char[] buffer) {
+        if (buffer.length > MAX_SIZE) return;
+        if (chars == null || chars.length < buffer.length) chars = buffer;
+    }
+
+    /**
+     * Get the scratch buffer in where numbers
+     * are formatted. The buffer is never taken, as
+     * a number is formatted and written at once
+     *
+     * @return the digits buffer
+     */
+    char[] digits() {
+        return digits;
+    }
+
+    /**
+     * Take an empty string builder
+     *
+     * @return the builder
+     */
+    StringBuilder takeBuilder() {
+        StringBuilder taken = builder;
+        if (taken == null) return new StringBuilder();
+
+        builder = null;
+        taken.setLength(0);
+        return taken;
+    }
+
+    /**
+     * Give back a string builder
+     *
+     * @param taken the builder
+     */
+    void giveBuilder(final StringBuilder taken) {
+        if (taken.capacity() > MAX_SIZE) return;
+        if (builder == null || builder.capacity() < taken.capacity()) builder = taken;
+    }
+}
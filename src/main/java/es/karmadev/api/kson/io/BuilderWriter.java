@@ -0,0 +1,82 @@
+package es.karmadev.api.kson.io;
+
+import java.io.Writer;
+
+/**
+ * Represents a writer which writes into
+ * a {@link StringBuilder string builder}. Unlike
+ * {@link java.io.StringWriter}, the builder is given
+ * by the caller, so it can be reused, and it's never
+ * synchronized
+ */
+final class BuilderWriter extends Writer {
+
+    private final StringBuilder builder;
+
+    /**
+     * Initialize the writer
+     *
+     * @param builder the builder to write into
+     */
+    BuilderWriter(final StringBuilder builder) {
+        this.builder = builder;
+    }
+
+    /**
+     * Writes a single character.
+     *
+     * @param c int specifying a character to be written
+     */
+    @Override
+    public void write(final int c) {
+        builder.append((char) c);
+    }
+
+    /**
+     * Writes a portion of an array of characters.
+     *
+     * @param buffer Array of characters
+     * @param offset Offset from which to start writing characters
+     * @param length Number of characters to write
+     */
+    @Override
+    public void write(final char[] buffer, final int offset, final int length) {
+        builder.append(buffer, offset, length);
+    }
+
+    /**
+     * Writes a string.
+     *
+     * @param str String to be written
+     */
+    @Override
+    public void write(final String str) {
+        builder.append(str);
+    }
+
+    /**
+     * Writes a portion of a string.
+     *
+     * @param str A String
+     * @param offset Offset from which to start writing characters
+     * @param length Number of characters to write
+     */
+    @Override
+    public void write(final String str, final int offset, final int length) {
+        builder.append(str, offset, offset + length);
+    }
+
+    /**
+     * Flushes the stream. There's nothing
+     * to flush
+     */
+    @Override
+    public void flush() {}
+
+    /**
+     * Closes the stream. There's nothing
+     * to close
+     */
+    @Override
+    public void close() {}
+}
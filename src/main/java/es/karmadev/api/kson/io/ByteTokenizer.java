@@ -0,0 +1,218 @@
+package es.karmadev.api.kson.io;
+
+import es.karmadev.api.kson.KsonException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Represents a json tokenizer which reads
+ * raw json bytes. The bytes can be read from
+ * an array, pulled in chunks from a stream
+ * or from memory regions, such as a mapped file,
+ * or fed by the caller as they arrive
+ */
+final class ByteTokenizer extends JsonTokenizer {
+
+    private final InputStream input;
+    private final ByteBuffer[] regions;
+    private int region;
+    private byte[] buffer;
+
+    private final boolean feeding;
+    private int fed;
+    private boolean ended;
+
+    /**
+     * Initialize the tokenizer
+     *
+     * @param buffer the raw json data
+     */
+    ByteTokenizer(final byte[] buffer) {
+        this.input = null;
+        this.regions = null;
+        this.buffer = buffer;
+        this.limit = buffer.length;
+        this.exhausted = true;
+        this.feeding = false;
+    }
+
+    /**
+     * Initialize the tokenizer
+     *
+     * @param input the stream to pull the json from
+     * @param bufferSize the initial window size
+     */
+    ByteTokenizer(final InputStream input, final int bufferSize) {
+        this.input = input;
+        this.regions = null;
+        this.buffer = BufferRecycler.get().takeBytes(bufferSize);
+        this.feeding = false;
+    }
+
+    /**
+     * Initialize the tokenizer
+     *
+     * @param regions the consecutive memory regions
+     *                holding the json, usually mapped
+     *                from a file
+     * @param bufferSize the initial window size
+     */
+    ByteTokenizer(final ByteBuffer[] regions, final int bufferSize) {
+        this.input = null;
+        this.regions = regions;
+        this.buffer = BufferRecycler.get().takeBytes(bufferSize);
+        this.feeding = false;
+    }
+
+    /**
+     * Initialize the tokenizer. The tokenizer
+     * reads only the data {@link #feed(ByteBuffer) fed}
+     * to it, and signals when it needs more instead of
+     * waiting for it
+     *
+     * @param bufferSize the initial window size
+     */
+    ByteTokenizer(final int bufferSize) {
+        this.input = null;
+        this.regions = null;
+        this.buffer = BufferRecycler.get().takeBytes(bufferSize);
+        this.feeding = true;
+    }
+
+    /**
+     * Feed more data to the tokenizer. The
+     * data is copied after the already fed one
+     *
+     * @param chunk the data, which is fully consumed
+     */
+    void feed(final ByteBuffer chunk) {
+        int length = chunk.remaining();
+        if (fed + length > buffer.length) {
+            byte[] grown = new byte[Math.max(buffer.length << 1, fed + length)];
+            System.arraycopy(buffer, 0, grown, 0, fed);
+            buffer = grown;
+        }
+
+        chunk.get(buffer, fed, length);
+        fed += length;
+    }
+
+    /**
+     * Mark that no more data will
+     * be fed to the tokenizer
+     */
+    void endInput() {
+        ended = true;
+    }
+
+    /**
+     * Give the tokenizer buffers back to
+     * the recycler. The window is only given
+     * back if it was not given by the caller
+     */
+    @Override
+    void release() {
+        if (input == null && regions == null && !feeding) return;
+
+        if (buffer != null) BufferRecycler.get().giveBytes(buffer);
+        buffer = null;
+    }
+
+    @Override
+    protected int unit(final int index) {
+        return buffer[index] & 0xFF;
+    }
+
+    @Override
+    protected int findStringEnd() throws KsonException {
+        escaped = false;
+        while (true) {
+            byte[] data = buffer;
+            int end = limit;
+            int index = position;
+
+            while (index < end) {
+                byte character = data[index++];
+                if (character == '"') {
+                    position = index;
+                    return index - 1;
+                }
+
+                if (character == '\\') {
+                    escaped = true;
+                    index++;
+                }
+            }
+
+            position = index;
+            if (!loadMore()) throw malformed(limit, "\"");
+        }
+    }
+
+    @Override
+    protected String text(final int start, final int end) {
+        return Utf8.decode(buffer, start, end);
+    }
+
+    @Override
+    protected void append(final StringBuilder builder, final int start, final int end) {
+        if (Utf8.ascii(buffer, start, end) != end) {
+            builder.append(Utf8.decode(buffer, start, end));
+            return;
+        }
+
+        for (int i = start; i < end; i++) builder.append((char) buffer[i]);
+    }
+
+    @Override
+    protected String name(final int start, final int end) {
+        String key = KeyTable.SHARED.get(buffer, start, end);
+        return (key != null ? key : text(start, end));
+    }
+
+    @Override
+    protected void shift(final int offset) {
+        if (feeding) {
+            System.arraycopy(buffer, offset, buffer, 0, fed - offset);
+            fed -= offset;
+            return;
+        }
+
+        System.arraycopy(buffer, offset, buffer, 0, limit - offset);
+    }
+
+    @Override
+    protected int fill() throws IOException, NeedMoreInput {
+        if (feeding) {
+            if (fed > limit) return fed - limit;
+            if (ended) return -1;
+
+            throw NeedMoreInput.INSTANCE;
+        }
+
+        if (limit == buffer.length) {
+            byte[] grown = new byte[buffer.length << 1];
+            System.arraycopy(buffer, 0, grown, 0, limit);
+            buffer = grown;
+        }
+
+        int length = buffer.length - limit;
+        if (input != null) return input.read(buffer, limit, length);
+
+        while (region < regions.length) {
+            ByteBuffer source = regions[region];
+            if (source.hasRemaining()) {
+                int read = Math.min(length, source.remaining());
+                source.get(buffer, limit, read);
+
+                return read;
+            }
+
+            regions[region++] = null;
+        }
+
+        return -1;
+    }
+}
@@ -0,0 +1,102 @@
+package es.karmadev.api.kson.io;
+
+import es.karmadev.api.kson.KsonException;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Represents a json tokenizer which reads
+ * json characters straight from a {@link Reader reader},
+ * so the json never needs to be encoded into
+ * bytes before being parsed
+ */
+final class CharTokenizer extends JsonTokenizer {
+
+    private final Reader input;
+    private char[] buffer;
+
+    /**
+     * Initialize the tokenizer
+     *
+     * @param input the reader to pull the json from
+     * @param bufferSize the initial window size
+     */
+    CharTokenizer(final Reader input, final int bufferSize) {
+        this.input = input;
+        this.buffer = BufferRecycler.get().takeChars(bufferSize);
+    }
+
+    /**
+     * Give the tokenizer buffers back
+     * to the recycler
+     */
+    @Override
+    void release() {
+        if (buffer != null) BufferRecycler.get().giveChars(buffer);
+        buffer = null;
+    }
+
+    @Override
+    protected int unit(final int index) {
+        return buffer[index];
+    }
+
+    @Override
+    protected int findStringEnd() throws KsonException {
+        escaped = false;
+        while (true) {
+            char[] data = buffer;
+            int end = limit;
+            int index = position;
+
+            while (index < end) {
+                char character = data[index++];
+                if (character == '"') {
+                    position = index;
+                    return index - 1;
+                }
+
+                if (character == '\\') {
+                    escaped = true;
+                    index++;
+                }
+            }
+
+            position = index;
+            if (!loadMore()) throw malformed(limit, "\"");
+        }
+    }
+
+    @Override
+    protected String text(final int start, final int end) {
+        return new String(buffer, start, end - start);
+    }
+
+    @Override
+    protected void append(final StringBuilder builder, final int start, final int end) {
+        builder.append(buffer, start, end - start);
+    }
+
+    @Override
+    protected String name(final int start, final int end) {
+        String key = KeyTable.SHARED.get(buffer, start, end);
+        return (key != null ? key : text(start, end));
+    }
+
+    @Override
+    protected void shift(final int offset) {
+        System.arraycopy(buffer, offset, buffer, 0, limit - offset);
+    }
+
+    @Override
+    protected int fill() throws IOException {
+        if (limit == buffer.length) {
+            char[] grown = new char[buffer.length << 1];
+            System.arraycopy(buffer, 0, grown, 0, limit);
+            buffer = grown;
+        }
+
+        return input.read(buffer, limit, buffer.length - limit);
+    }
+}
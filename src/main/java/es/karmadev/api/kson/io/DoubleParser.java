@@ -0,0 +1,152 @@
+package es.karmadev.api.kson.io;
+
+import java.math.BigInteger;
+
+/**
+ * Represents a double parser. The parser
+ * builds a correctly rounded double out of a
+ * decimal significand and exponent, using the
+ * Eisel-Lemire algorithm. The very few numbers the
+ * algorithm cannot decide are reported as
+ * {@link Double#NaN}, so the caller can fall back
+ * to {@link Double#parseDouble(String)}
+ */
+final class DoubleParser {
+
+    private final static int MIN_EXPONENT = -348;
+    private final static int MAX_EXPONENT = 347;
+
+    /**
+     * The powers of ten which can be
+     * represented exactly by a double
+     */
+    private final static double[] EXACT_POWERS = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * The 128 most significant bits of each
+     * power of ten, rounded down, stored as the
+     * high and low halves one after the other
+     */
+    private final static long[] POWERS = new long[(MAX_EXPONENT - MIN_EXPONENT + 1) * 2];
+
+    static {
+        BigInteger ten = BigInteger.TEN;
+        for (int exponent = MIN_EXPONENT; exponent <= MAX_EXPONENT; exponent++) {
+            BigInteger value;
+            if (exponent >= 0) {
+                value = ten.pow(exponent);
+                int length = value.bitLength();
+                value = (length > 128 ? value.shiftRight(length - 128) : value.shiftLeft(128 - length));
+            } else {
+                BigInteger divisor = ten.pow(-exponent);
+                value = BigInteger.ONE.shiftLeft(127 + divisor.bitLength()).divide(divisor);
+            }
+
+            int index = (exponent - MIN_EXPONENT) << 1;
+            POWERS[index] = value.shiftRight(64).longValue();
+            POWERS[index + 1] = value.longValue();
+        }
+    }
+
+    private DoubleParser() {}
+
+    /**
+     * Build the double
+     *
+     * @param significand the decimal significand, as an
+     *                    unsigned long
+     * @param exponent the decimal exponent
+     * @param negative if the number is negative
+     * @param truncated if the significand had more digits
+     *                  than a long can hold, and they were dropped
+     * @return the double, or {@link Double#NaN} if it
+     * could not be decided
+     */
+    static double parse(final long significand, final int exponent, final boolean negative, final boolean truncated) {
+        if (!truncated && exponent >= -22 && exponent <= 22 && significand >= 0 && significand <= (1L << 53)) {
+            double value = significand;
+            value = (exponent < 0 ? value / EXACT_POWERS[-exponent] : value * EXACT_POWERS[exponent]);
+
+            return negative ? -value : value;
+        }
+
+        double value = eiselLemire(significand, exponent, negative);
+        if (truncated && !Double.isNaN(value) && value != eiselLemire(significand + 1, exponent, negative)) {
+            return Double.NaN;
+        }
+
+        return value;
+    }
+
+    /**
+     * Get the high half of the unsigned
+     * 128 bits product of two longs
+     *
+     * @param x the first factor
+     * @param y the second factor
+     * @return the high bits of the product
+     */
+    static long multiplyHigh(final long x, final long y) {
+        long x0 = x & 0xFFFFFFFFL;
+        long x1 = x >>> 32;
+        long y0 = y & 0xFFFFFFFFL;
+        long y1 = y >>> 32;
+
+        long low = x0 * y1;
+        long middle = x1 * y0 + ((x0 * y0) >>> 32) + (low & 0xFFFFFFFFL);
+        return x1 * y1 + (middle >>> 32) + (low >>> 32);
+    }
+
+    private static double eiselLemire(long significand, final int exponent, final boolean negative) {
+        if (significand == 0) return negative ? -0d : 0d;
+        if (exponent < MIN_EXPONENT || exponent > MAX_EXPONENT) return Double.NaN;
+
+        int zeros = Long.numberOfLeadingZeros(significand);
+        significand <<= zeros;
+
+        long binaryExponent = ((217706 * exponent) >> 16) + 64 + 1023 - zeros;
+
+        int index = (exponent - MIN_EXPONENT) << 1;
+        long high = multiplyHigh(significand, POWERS[index]);
+        long low = significand * POWERS[index];
+
+        if ((high & 0x1FF) == 0x1FF && Long.compareUnsigned(low + significand, significand) < 0) {
+            long lowerHigh = multiplyHigh(significand, POWERS[index + 1]);
+            long lowerLow = significand * POWERS[index + 1];
+
+            long mergedHigh = high;
+            long mergedLow = low + lowerHigh;
+            if (Long.compareUnsigned(mergedLow, low) < 0) mergedHigh++;
+
+            if ((mergedHigh & 0x1FF) == 0x1FF && mergedLow == -1 && Long.compareUnsigned(lowerLow + significand, significand) < 0) {
+                return Double.NaN;
+            }
+
+            high = mergedHigh;
+            low = mergedLow;
+        }
+
+        int top = (int) (high >>> 63);
+        long mantissa = high >>> (top + 9);
+        binaryExponent -= 1 ^ top;
+
+        if (low == 0 && (high & 0x1FF) == 0 && (mantissa & 3) == 1) return Double.NaN;
+
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if ((mantissa >>> 53) > 0) {
+            mantissa >>>= 1;
+            binaryExponent++;
+        }
+
+        if (binaryExponent <= 0 || binaryExponent >= 0x7FF) return Double.NaN;
+
+        long bits = (binaryExponent << 52) | (mantissa & 0x000FFFFFFFFFFFFFL);
+        if (negative) bits |= 0x8000000000000000L;
+
+        return Double.longBitsToDouble(bits);
+    }
+}
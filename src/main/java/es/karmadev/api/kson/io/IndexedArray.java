@@ -0,0 +1,208 @@
+package es.karmadev.api.kson.io;
+
+import es.karmadev.api.kson.JsonArray;
+import es.karmadev.api.kson.JsonInstance;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Represents a json array backed by a
+ * {@link StructuralIndex structural index}. The
+ * array elements are built the first time the
+ * array is accessed, while the objects and arrays
+ * inside it stay indexed until they are accessed
+ * as well
+ */
+final class IndexedArray extends JsonArray {
+
+    private final StructuralIndex index;
+    private final int entry;
+
+    private boolean materialized = false;
+
+    /**
+     * Initialize the array
+     *
+     * @param path the array path
+     * @param key the array key
+     * @param pathSeparator the array path separator
+     * @param index the index the array is at
+     * @param entry the array opening entry
+     */
+    IndexedArray(final String path, final String key, final char pathSeparator, final StructuralIndex index, final int entry) {
+        super(path, key, pathSeparator);
+        this.index = index;
+        this.entry = entry;
+    }
+
+    /**
+     * Get all the array elements
+     *
+     * @return the array elements
+     */
+    @Override
+    public Collection<JsonInstance> getElements() {
+        materialize();
+        return super.getElements();
+    }
+
+    /**
+     * Get the array size
+     *
+     * @return the array size
+     */
+    @Override
+    public int size() {
+        materialize();
+        return super.size();
+    }
+
+    /**
+     * Clone the element on the new path and
+     * the new path separator
+     *
+     * @param newPath       the path
+     * @param newKey        the new key
+     * @param pathSeparator the path separator
+     * @return the new instance
+     */
+    @Override
+    public JsonInstance clone(final String newPath, final String newKey, final char pathSeparator) {
+        materialize();
+        return super.clone(newPath, newKey, pathSeparator);
+    }
+
+    /**
+     * Get if the array contains the element
+     *
+     * @param element the element to check with
+     * @return if the array contains an element with
+     * the same values
+     */
+    @Override
+    public boolean contains(final JsonInstance element) {
+        materialize();
+        return super.contains(element);
+    }
+
+    /**
+     * Get an instance by its index on the
+     * array
+     *
+     * @param index the element index
+     * @return the element on the specified index
+     * @throws IndexOutOfBoundsException if the index
+     *                                   is out of bounds of the array
+     */
+    @Override
+    public JsonInstance get(final int index) throws IndexOutOfBoundsException {
+        materialize();
+        return super.get(index);
+    }
+
+    /**
+     * Set the instance at the specified array
+     * position
+     *
+     * @param index       the index to modify
+     * @param newInstance the new value
+     * @return if the operation was successful
+     * @throws IndexOutOfBoundsException if the index
+     *                                   is out of bounds of the array
+     */
+    @Override
+    public boolean set(final int index, final JsonInstance newInstance) throws IndexOutOfBoundsException {
+        materialize();
+        return super.set(index, newInstance);
+    }
+
+    /**
+     * Remove an element on the specified
+     * array position
+     *
+     * @param index the array position
+     * @return if the operation was successful
+     * @throws IndexOutOfBoundsException if the index
+     *                                   is out of bounds of the array
+     */
+    @Override
+    public boolean remove(final int index) throws IndexOutOfBoundsException {
+        materialize();
+        return super.remove(index);
+    }
+
+    /**
+     * Remove an element from the array
+     *
+     * @param instance the element to remove
+     * @return if the operation was successful
+     */
+    @Override
+    public boolean remove(final JsonInstance instance) {
+        materialize();
+        return super.remove(instance);
+    }
+
+    /**
+     * Add an instance to the array
+     *
+     * @param instance the instance to add
+     * @return if the operation was successful
+     */
+    @Override
+    public boolean add(final JsonInstance instance) {
+        materialize();
+        return super.add(instance);
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code T}.
+     *
+     * @return an Iterator.
+     */
+    @NotNull
+    @Override
+    public Iterator<JsonInstance> iterator() {
+        materialize();
+        return super.iterator();
+    }
+
+    /**
+     * Get if the array has no elements
+     *
+     * @return if the array is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        materialize();
+        return super.isEmpty();
+    }
+
+    private void materialize() {
+        if (materialized) return;
+
+        List<JsonInstance> elements = new ArrayList<>();
+        int close = index.end(entry);
+        int current = entry + 1;
+        while (current != close) {
+            index.requireValue(current);
+
+            String key = (index.at(current) == '[' ? getKey() : "");
+            elements.add(index.value(current, this, key));
+
+            int next = index.end(current) + 1;
+            if (next == close) break;
+            if (index.at(next) != ',') throw index.malformed(next, ", or ]");
+            if (next + 1 == close) throw index.malformed(close, "a value");
+
+            current = next + 1;
+        }
+
+        for (JsonInstance element : elements) super.add(element);
+        materialized = true;
+    }
+}
@@ -0,0 +1,239 @@
+package es.karmadev.api.kson.io;
+
+import es.karmadev.api.kson.JsonInstance;
+import es.karmadev.api.kson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Represents a json object backed by a
+ * {@link StructuralIndex structural index}. The
+ * object only reads its keys when they are first
+ * needed, and each value is only built when it's
+ * requested. Any other operation, such as iterating
+ * or modifying the object, builds all its values
+ * and turns it into a regular object
+ */
+final class IndexedObject extends JsonObject {
+
+    private final StructuralIndex index;
+    private final int entry;
+
+    private Map<String, Integer> entries;
+    private Map<String, JsonInstance> children;
+    private boolean materialized = false;
+
+    /**
+     * Initialize the object
+     *
+     * @param path the object path
+     * @param key the object key
+     * @param pathSeparator the object path separator
+     * @param index the index the object is at
+     * @param entry the object opening entry
+     */
+    IndexedObject(final String path, final String key, final char pathSeparator, final StructuralIndex index, final int entry) {
+        super(path, key, pathSeparator);
+        this.index = index;
+        this.entry = entry;
+    }
+
+    /**
+     * Get the element size
+     *
+     * @return the element size
+     */
+    @Override
+    public int size() {
+        if (materialized) return super.size();
+        return entries().size();
+    }
+
+    /**
+     * Clone the element on the new path and
+     * the new path separator
+     *
+     * @param newPath       the path
+     * @param newKey        the new key
+     * @param pathSeparator the path separator
+     * @return the new instance
+     */
+    @Override
+    public JsonInstance clone(final String newPath, final String newKey, final char pathSeparator) {
+        materialize();
+        return super.clone(newPath, newKey, pathSeparator);
+    }
+
+    /**
+     * Get a child element. Only the values
+     * on the way to the element are built
+     *
+     * @param path           the path to the element
+     * @param defaultElement the default element if there's no
+     *                       one set
+     * @return the instance
+     */
+    @Override
+    public JsonInstance getChild(final String path, final JsonInstance defaultElement) {
+        if (materialized) return super.getChild(path, defaultElement);
+
+        JsonInstance child = child(path);
+        if (child != null) return child;
+
+        char separator = getPathSeparator();
+        for (int i = path.indexOf(separator); i != -1; i = path.indexOf(separator, i + 1)) {
+            JsonInstance parent = child(path.substring(0, i));
+            if (parent == null || !parent.isObjectType()) continue;
+
+            JsonInstance nested = parent.asObject().getChild(path.substring(i + 1), null);
+            if (nested != null) return nested;
+        }
+
+        return defaultElement;
+    }
+
+    /**
+     * Get if the object has a child
+     * element
+     *
+     * @param path the path
+     * @return if the element has the
+     * child element
+     */
+    @Override
+    public boolean hasChild(final String path) {
+        if (materialized) return super.hasChild(path);
+        return getChild(path, null) != null;
+    }
+
+    /**
+     * Remove an element from the object
+     *
+     * @param path the object path
+     * @return if the object was removed
+     */
+    @Override
+    public boolean removeChild(final String path) {
+        materialize();
+        return super.removeChild(path);
+    }
+
+    /**
+     * Get all the object keys. The keys
+     * are read without building any value,
+     * unless the search is recursive
+     *
+     * @param deep if the search should be recursive
+     * @return the object keys
+     */
+    @Override
+    public Collection<String> getKeys(final boolean deep) {
+        if (materialized || deep) {
+            materialize();
+            return super.getKeys(deep);
+        }
+
+        return new ArrayList<>(entries().keySet());
+    }
+
+    /**
+     * Get the json object as a map object
+     *
+     * @return the json object as a map
+     * object.
+     */
+    @Override
+    public Map<String, JsonInstance> getAsMap() {
+        materialize();
+        return super.getAsMap();
+    }
+
+    /**
+     * Put an element into the object
+     *
+     * @param path    the element path
+     * @param element the element to write
+     */
+    @Override
+    public void put(final String path, final JsonInstance element) {
+        materialize();
+        super.put(path, element);
+    }
+
+    /**
+     * Get the object json tree
+     *
+     * @return the object json tree
+     */
+    @Override
+    public Map<String, JsonInstance> getJsonTree() {
+        materialize();
+        return super.getJsonTree();
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code T}.
+     *
+     * @return an Iterator.
+     */
+    @NotNull
+    @Override
+    public Iterator<JsonInstance> iterator() {
+        materialize();
+        return super.iterator();
+    }
+
+    private JsonInstance child(final String key) {
+        Integer value = entries().get(key);
+        if (value == null) return null;
+
+        if (children == null) children = new HashMap<>();
+        JsonInstance child = children.get(key);
+        if (child == null) {
+            child = index.value(value, this, key);
+            children.put(key, child);
+        }
+
+        return child;
+    }
+
+    private Map<String, Integer> entries() {
+        if (entries != null) return entries;
+
+        Map<String, Integer> read = new LinkedHashMap<>();
+        int close = index.end(entry);
+
+        int current = entry + 1;
+        while (current != close) {
+            if (index.at(current) != '"') throw index.malformed(current, "\"");
+            if (index.at(current + 1) != ':') throw index.malformed(current + 1, ":");
+
+            int value = current + 2;
+            index.requireValue(value);
+            read.put(index.key(current), value);
+
+            int next = index.end(value) + 1;
+            if (next == close) break;
+            if (index.at(next) != ',') throw index.malformed(next, ", or }");
+
+            current = next + 1;
+            if (current == close) throw index.malformed(current, "\"");
+        }
+
+        return entries = read;
+    }
+
+    private void materialize() {
+        if (materialized) return;
+
+        for (String key : entries().keySet()) {
+            JsonInstance child = child(key);
+            super.put(key, child);
+        }
+
+        materialized = true;
+        entries = null;
+        children = null;
+    }
+}
@@ -0,0 +1,277 @@
+package es.karmadev.api.kson.io;
+
+import es.karmadev.api.kson.KsonException;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Represents a json cursor. A cursor
+ * reads a json document token by token, without
+ * building any {@link es.karmadev.api.kson.JsonInstance json instance},
+ * so the caller can pick only the values it needs.
+ * For instance, on a json like this:
+ * <pre>
+ * {"id": 5, "payload": {...}}
+ * </pre>
+ * The id could be read without building the payload:
+ * <pre>
+ * JsonCursor cursor = new JsonCursor(json);
+ * while (cursor.nextToken() != null) {
+ *     if ("id".equals(cursor.currentName()) &amp;&amp; cursor.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+ *         id = cursor.getLong();
+ *     } else if (cursor.currentToken() == JsonToken.START_OBJECT) {
+ *         cursor.skipChildren();
+ *     }
+ * }
+ * </pre>
+ */
+@SuppressWarnings("unused")
+public class JsonCursor {
+
+    private final JsonTokenizer tokenizer;
+
+    private String name;
+    private String[] names = new String[16];
+    private int depth = 0;
+
+    /**
+     * Initialize the json cursor
+     *
+     * @param data the raw json data
+     */
+    public JsonCursor(final byte[] data) {
+        this(new ByteTokenizer(data));
+    }
+
+    /**
+     * Initialize the json cursor
+     *
+     * @param json the raw json
+     */
+    public JsonCursor(final String json) {
+        this(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Initialize the json cursor. The stream
+     * is read in chunks as the cursor advances,
+     * so the json is never fully loaded in memory
+     *
+     * @param stream the stream to read the json from
+     */
+    public JsonCursor(final InputStream stream) {
+        this(new ByteTokenizer(stream, JsonTokenizer.DEFAULT_BUFFER_SIZE));
+    }
+
+    /**
+     * Initialize the json cursor. The reader
+     * is read in chunks as the cursor advances,
+     * so the json is never fully loaded in memory
+     *
+     * @param reader the reader to read the json from
+     */
+    public JsonCursor(final Reader reader) {
+        this(new CharTokenizer(reader, JsonTokenizer.DEFAULT_BUFFER_SIZE));
+    }
+
+    /**
+     * Initialize the json cursor
+     *
+     * @param tokenizer the tokenizer to read from
+     */
+    JsonCursor(final JsonTokenizer tokenizer) {
+        this.tokenizer = tokenizer;
+    }
+
+    /**
+     * Move the cursor to the next token
+     *
+     * @return the next token, or null if the
+     * end of the json has been reached
+     * @throws KsonException if the json is malformed
+     */
+    @Nullable
+    public JsonToken nextToken() throws KsonException {
+        JsonToken previous = tokenizer.currentToken();
+        if (previous == JsonToken.START_OBJECT || previous == JsonToken.START_ARRAY) {
+            name = null;
+        }
+
+        JsonToken token = next();
+        if (token != null) track(token);
+
+        return token;
+    }
+
+    /**
+     * Read the next token from the
+     * tokenizer
+     *
+     * @return the next token
+     * @throws KsonException if the json is malformed
+     */
+    JsonToken next() throws KsonException {
+        return tokenizer.nextToken();
+    }
+
+    /**
+     * Get the token the cursor is
+     * currently at
+     *
+     * @return the current token
+     */
+    @Nullable
+    public JsonToken currentToken() {
+        return tokenizer.currentToken();
+    }
+
+    /**
+     * Get the name of the current token. That
+     * is the key itself for {@link JsonToken#FIELD_NAME keys},
+     * or the key the value is assigned to for values. Values
+     * inside arrays have no name
+     *
+     * @return the current token name
+     */
+    @Nullable
+    public String currentName() {
+        return name;
+    }
+
+    /**
+     * Get the current token as a string. Numbers
+     * are returned as they appear on the json
+     *
+     * @return the current token string value
+     */
+    @Nullable
+    public String getString() {
+        JsonToken token = tokenizer.currentToken();
+        if (token == null) return null;
+
+        switch (token) {
+            case FIELD_NAME:
+                return name;
+            case VALUE_STRING:
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return tokenizer.getText();
+            case VALUE_TRUE:
+                return "true";
+            case VALUE_FALSE:
+                return "false";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Get the current token as an int
+     *
+     * @return the current token int value
+     * @throws UnsupportedOperationException if the current
+     * token is not a number
+     * @throws KsonException if the number does not fit in
+     * an int
+     */
+    public int getInt() throws UnsupportedOperationException, KsonException {
+        long value = getLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)
+            throw new KsonException("Number " + tokenizer.getText() + " does not fit in an int");
+
+        return (int) value;
+    }
+
+    /**
+     * Get the current token as a long
+     *
+     * @return the current token long value
+     * @throws UnsupportedOperationException if the current
+     * token is not a number
+     * @throws KsonException if the number does not fit in
+     * a long
+     */
+    public long getLong() throws UnsupportedOperationException, KsonException {
+        requireNumber();
+        return tokenizer.getLong();
+    }
+
+    /**
+     * Get the current token as a double
+     *
+     * @return the current token double value
+     * @throws UnsupportedOperationException if the current
+     * token is not a number
+     */
+    public double getDouble() throws UnsupportedOperationException {
+        requireNumber();
+        return tokenizer.getDouble();
+    }
+
+    /**
+     * Get the current token as a boolean
+     *
+     * @return the current token boolean value
+     * @throws UnsupportedOperationException if the current
+     * token is not a boolean
+     */
+    public boolean getBoolean() throws UnsupportedOperationException {
+        JsonToken token = tokenizer.currentToken();
+        if (token == JsonToken.VALUE_TRUE) return true;
+        if (token == JsonToken.VALUE_FALSE) return false;
+
+        throw new UnsupportedOperationException("Cannot cast " + token + " to boolean");
+    }
+
+    /**
+     * Skip all the children of the current
+     * object or array. After this, the cursor
+     * will be at the {@link JsonToken#END_OBJECT end}
+     * of the skipped element. If the cursor is not
+     * at the start of an object or array, this
+     * method does nothing
+     *
+     * @throws KsonException if the json is malformed
+     */
+    public void skipChildren() throws KsonException {
+        JsonToken token = tokenizer.currentToken();
+        if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) return;
+
+        tokenizer.skipChildren();
+        track(tokenizer.currentToken());
+    }
+
+    private void requireNumber() {
+        JsonToken token = tokenizer.currentToken();
+        if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT)
+            throw new UnsupportedOperationException("Cannot cast " + token + " to number");
+    }
+
+    private void track(final JsonToken token) {
+        switch (token) {
+            case FIELD_NAME:
+                name = tokenizer.getName();
+                break;
+            case START_OBJECT:
+            case START_ARRAY:
+                if (depth == names.length) {
+                    String[] grown = new String[depth << 1];
+                    System.arraycopy(names, 0, grown, 0, depth);
+                    names = grown;
+                }
+
+                names[depth++] = name;
+                break;
+            case END_OBJECT:
+            case END_ARRAY:
+                name = names[--depth];
+                names[depth] = null;
+                break;
+            default:
+                break;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package es.karmadev.api.kson.io;
+
+import es.karmadev.api.kson.KsonException;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Represents a json cursor which never waits
+ * for data. Instead of reading from a source, the
+ * data is {@link #feed(ByteBuffer) fed} to the cursor
+ * as it arrives, for instance, from a non blocking
+ * channel. When the next token is not whole yet, the
+ * cursor returns {@link JsonToken#NEED_MORE_INPUT}, and
+ * the same token is read once more data is fed:
+ * <pre>
+ * JsonFeedCursor cursor = new JsonFeedCursor();
+ * cursor.feed(chunk);
+ *
+ * JsonToken token;
+ * while ((token = cursor.nextToken()) != JsonToken.NEED_MORE_INPUT) {
+ *     if (token == null) break; //No more input
+ *     ...
+ * }
+ * </pre>
+ * Many jsons can be fed one after the other, and
+ * they are read as if they were a single one
+ */
+@SuppressWarnings("unused")
+public final class JsonFeedCursor extends JsonCursor {
+
+    private final ByteTokenizer tokenizer;
+
+    private int level = 0;
+    private int skipping = -1;
+    private boolean complete = false;
+    private boolean closed = false;
+
+    /**
+     * Initialize the json feed cursor
+     */
+    public JsonFeedCursor() {
+        this(new ByteTokenizer(JsonTokenizer.DEFAULT_BUFFER_SIZE));
+    }
+
+    /**
+     * Initialize the json feed cursor
+     *
+     * @param tokenizer the fed tokenizer
+     */
+    private JsonFeedCursor(final ByteTokenizer tokenizer) {
+        super(tokenizer);
+        this.tokenizer = tokenizer;
+    }
+
+    /**
+     * Feed more data to the cursor. All
+     * the remaining data of the chunk is
+     * consumed, so the chunk can be reused
+     * right after this
+     *
+     * @param chunk the data
+     * @throws IllegalStateException if the end of
+     * the input has already been marked
+     */
+    public void feed(final ByteBuffer chunk) throws IllegalStateException {
+        if (closed) throw new IllegalStateException("Cannot feed a cursor after the end of its input");
+        tokenizer.feed(chunk);
+    }
+
+    /**
+     * Feed more data to the cursor
+     *
+     * @param data the data
+     * @param offset the data start
+     * @param length the data length
+     * @throws IllegalStateException if the end of
+     * the input has already been marked
+     */
+    public void feed(final byte[] data, final int offset, final int length) throws IllegalStateException {
+        feed(ByteBuffer.wrap(data, offset, length));
+    }
+
+    /**
+     * Mark that no more data will be fed
+     * to the cursor. The remaining tokens are
+     * read as usual, and then the cursor returns
+     * null
+     */
+    public void endOfInput() {
+        closed = true;
+        tokenizer.endInput();
+    }
+
+    /**
+     * Move the cursor to the next token
+     *
+     * @return the next token, {@link JsonToken#NEED_MORE_INPUT} if
+     * more data must be fed to read it, or null if the end of the
+     * input has been reached
+     * @throws KsonException if the json is malformed
+     */
+    @Nullable
+    @Override
+    public JsonToken nextToken() throws KsonException {
+        return super.nextToken();
+    }
+
+    /**
+     * Skip all the children of the current
+     * object or array. The children are skipped
+     * by the next calls to {@link #nextToken()}, which
+     * return {@link JsonToken#NEED_MORE_INPUT} while
+     * the children are not fully fed, and then the
+     * {@link JsonToken#END_OBJECT end} of the skipped
+     * element. If the cursor is not at the start of an
+     * object or array, this method does nothing
+     */
+    @Override
+    public void skipChildren() {
+        JsonToken token = tokenizer.currentToken();
+        if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) return;
+
+        skipping = level - 1;
+    }
+
+    /**
+     * Read the next token from the
+     * tokenizer, skipping the children
+     * being skipped
+     *
+     * @return the next token
+     * @throws KsonException if the json is malformed
+     */
+    @Override
+    JsonToken next() throws KsonException {
+        while (true) {
+            if (complete) {
+                tokenizer.nextDocument();
+                complete = false;
+            }
+
+            JsonToken token = tokenizer.tryNextToken();
+            if (token == JsonToken.NEED_MORE_INPUT) return token;
+            if (token == null) {
+                tokenizer.release();
+                return null;
+            }
+
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                level++;
+            } else if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                level--;
+            }
+
+            complete = (level == 0);
+            if (skipping != -1) {
+                if (level > skipping) continue;
+                skipping = -1;
+            }
+
+            return token;
+        }
+    }
+}
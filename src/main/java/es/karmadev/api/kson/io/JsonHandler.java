@@ -0,0 +1,117 @@
+package es.karmadev.api.kson.io;
+
+/**
+ * Represents a json handler. A handler
+ * receives the json events as the json is
+ * being {@link JsonReader#scan(byte[], JsonHandler) scanned},
+ * so no json element needs to be built in order
+ * to process the json. Every event returns whether
+ * the scan should continue, so the handler can stop
+ * the scan as soon as it has what it needs
+ */
+@SuppressWarnings("unused")
+public interface JsonHandler {
+
+    /**
+     * Called when an object starts
+     *
+     * @return if the scan should continue
+     */
+    default boolean startObject() {
+        return true;
+    }
+
+    /**
+     * Called when an object ends
+     *
+     * @return if the scan should continue
+     */
+    default boolean endObject() {
+        return true;
+    }
+
+    /**
+     * Called when an array starts
+     *
+     * @return if the scan should continue
+     */
+    default boolean startArray() {
+        return true;
+    }
+
+    /**
+     * Called when an array ends
+     *
+     * @return if the scan should continue
+     */
+    default boolean endArray() {
+        return true;
+    }
+
+    /**
+     * Called when an object key is
+     * read. The key value will be reported
+     * right after this
+     *
+     * @param name the key
+     * @return if the scan should continue
+     */
+    default boolean fieldName(final String name) {
+        return true;
+    }
+
+    /**
+     * Called when a string value
+     * is read
+     *
+     * @param value the string
+     * @return if the scan should continue
+     */
+    default boolean value(final String value) {
+        return true;
+    }
+
+    /**
+     * Called when a number without fraction
+     * nor exponent is read. Numbers which do not
+     * fit in a long are reported as {@link #value(double) doubles}
+     *
+     * @param value the number
+     * @return if the scan should continue
+     */
+    default boolean value(final long value) {
+        return true;
+    }
+
+    /**
+     * Called when a number with fraction
+     * or exponent is read
+     *
+     * @param value the number
+     * @return if the scan should continue
+     */
+    default boolean value(final double value) {
+        return true;
+    }
+
+    /**
+     * Called when a boolean value
+     * is read
+     *
+     * @param value the boolean
+     * @return if the scan should continue
+     */
+    default boolean value(final boolean value) {
+        return true;
+    }
+
+    /**
+     * Called when a null value
+     * is read
+     *
+     * @return if the scan should continue
+     */
+    default boolean nullValue() {
+        return true;
+    }
+}
@@ -0,0 +1,447 @@
+package es.karmadev.api.kson.io;
+
+import es.karmadev.api.kson.JsonInstance;
+import es.karmadev.api.kson.KsonException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Represents a reader of newline delimited
+ * json, also known as json lines, in where each
+ * line of the stream holds a whole json. For
+ * instance:
+ * <pre>
+ * {"level": "info", "message": "Started"}
+ * {"level": "warn", "message": "Low memory"}
+ * </pre>
+ * Each line is parsed straight from the read
+ * bytes, without building a string of it. Blank
+ * lines are skipped. The lines can also be parsed
+ * in parallel by a pool, while the reader keeps
+ * splitting the next lines
+ */
+@SuppressWarnings("unused")
+public final class JsonLinesReader implements Iterator<JsonInstance>, Closeable {
+
+    /**
+     * The amount of bytes after which
+     * a batch of lines is sent to the pool
+     */
+    private final static int BATCH_SIZE = 65536;
+
+    private final InputStream stream;
+    private final boolean lazyNumbers;
+
+    private byte[] buffer = BufferRecycler.get().takeBytes(JsonTokenizer.DEFAULT_BUFFER_SIZE);
+    private int start = 0;
+    private int scanned = 0;
+    private int limit = 0;
+    private boolean exhausted = false;
+
+    private int lineStart;
+    private int lineEnd;
+    private long line = 0;
+
+    private byte[] tokenized;
+    private JsonTokenizer tokenizer;
+    private JsonReader reader;
+    private JsonInstance next;
+    private Pipeline pipeline;
+
+    /**
+     * Initialize the json lines reader
+     *
+     * @param stream the stream to read the lines from
+     */
+    public JsonLinesReader(final InputStream stream) {
+        this(stream, false);
+    }
+
+    /**
+     * Initialize the json lines reader
+     *
+     * @param stream the stream to read the lines from
+     * @param lazyNumbers if numbers should be kept as
+     *                    they were written, and only converted
+     *                    when requested
+     */
+    public JsonLinesReader(final InputStream stream, final boolean lazyNumbers) {
+        this.stream = stream;
+        this.lazyNumbers = lazyNumbers;
+    }
+
+    /**
+     * Initialize the json lines reader
+     *
+     * @param file the file to read the lines from
+     * @throws KsonException if the file fails to open
+     */
+    public JsonLinesReader(final Path file) throws KsonException {
+        this(open(file), false);
+    }
+
+    /**
+     * Returns {@code true} if the iteration has more elements.
+     *
+     * @return {@code true} if the iteration has more elements
+     * @throws KsonException if the next line is malformed
+     * or the stream fails to read
+     */
+    @Override
+    public boolean hasNext() throws KsonException {
+        if (next != null) return true;
+        if (!nextLine(true)) return false;
+
+        if (tokenized != buffer) {
+            tokenized = buffer;
+            tokenizer = new ByteTokenizer(buffer);
+            reader = new JsonReader(tokenizer, lazyNumbers);
+        }
+
+        next = parse(tokenizer, reader, lineStart, lineEnd, line);
+        return true;
+    }
+
+    /**
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException if the iteration has no more elements
+     * @throws KsonException if the next line is malformed
+     * or the stream fails to read
+     */
+    @Override
+    public JsonInstance next() throws NoSuchElementException, KsonException {
+        if (!hasNext()) throw new NoSuchElementException();
+
+        JsonInstance instance = next;
+        next = null;
+
+        return instance;
+    }
+
+    /**
+     * Get the lines as a stream. The
+     * stream reads from this reader, so
+     * only one of them should be used
+     *
+     * @return the lines stream
+     */
+    public Stream<JsonInstance> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(this::close);
+    }
+
+    /**
+     * Get the lines as a stream, parsing
+     * them in parallel. The lines are split by
+     * the thread consuming the stream, and sent
+     * in batches to the pool, which parses them
+     * while the next batches are being split
+     *
+     * @param pool the pool to parse the lines in
+     * @param ordered if the lines should be returned in
+     *                the same order they were read. Otherwise,
+     *                each batch of lines is returned as soon as
+     *                it's parsed
+     * @return the lines stream
+     */
+    public Stream<JsonInstance> stream(final ExecutorService pool, final boolean ordered) {
+        pipeline = new Pipeline(pool, ordered);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pipeline,
+                (ordered ? Spliterator.ORDERED : 0) | Spliterator.NONNULL), false).onClose(this::close);
+    }
+
+    /**
+     * Closes this stream and releases any system resources associated
+     * with it. If the lines are being parsed in parallel, the pending
+     * lines are discarded. The reader can't be used anymore after this
+     *
+     * @throws KsonException if the stream fails to close
+     */
+    @Override
+    public void close() throws KsonException {
+        if (pipeline != null) pipeline.cancel();
+        if (buffer != null) BufferRecycler.get().giveBytes(buffer);
+        buffer = null;
+
+        try {
+            stream.close();
+        } catch (IOException ex) {
+            throw new KsonException(ex);
+        }
+    }
+
+    /**
+     * Find the next non blank line
+     *
+     * @param refill if more data can be read when
+     *               the buffer holds no more lines. This
+     *               may move the data in the buffer
+     * @return if there was a line
+     * @throws KsonException if the stream fails to read
+     */
+    private boolean nextLine(final boolean refill) throws KsonException {
+        while (true) {
+            int newline = -1;
+            for (int i = scanned; i < limit; i++) {
+                if (buffer[i] == '\n') {
+                    newline = i;
+                    break;
+                }
+            }
+
+            if (newline == -1) {
+                scanned = limit;
+                if (!exhausted) {
+                    if (!refill) return false;
+                    fill();
+                    continue;
+                }
+
+                if (start == limit) return false;
+                newline = limit;
+            }
+
+            lineStart = start;
+            lineEnd = newline;
+            line++;
+
+            start = scanned = Math.min(newline + 1, limit);
+            if (!isBlank(buffer, lineStart, lineEnd)) return true;
+        }
+    }
+
+    /**
+     * Read more data into the buffer, moving
+     * the unread data to its start, or growing it
+     * if the current line does not fit
+     *
+     * @throws KsonException if the stream fails to read
+     */
+    private void fill() throws KsonException {
+        if (start > 0) {
+            System.arraycopy(buffer, start, buffer, 0, limit - start);
+            limit -= start;
+            scanned -= start;
+            start = 0;
+        }
+
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length << 1);
+        }
+
+        try {
+            int read = stream.read(buffer, limit, buffer.length - limit);
+            if (read == -1) {
+                exhausted = true;
+                return;
+            }
+
+            limit += read;
+        } catch (IOException ex) {
+            throw new KsonException(ex);
+        }
+    }
+
+    /**
+     * Parse a single line
+     *
+     * @param tokenizer the tokenizer holding the line
+     * @param reader the reader of the tokenizer
+     * @param start the line start
+     * @param end the line end
+     * @param line the line number
+     * @return the line json
+     * @throws KsonException if the line is malformed
+     */
+    private static JsonInstance parse(final JsonTokenizer tokenizer, final JsonReader reader,
+                                      final int start, final int end, final long line) throws KsonException {
+        tokenizer.rewind(start, end);
+        tokenizer.discarded = -start;
+
+        try {
+            return reader.parse();
+        } catch (KsonException ex) {
+            throw new KsonException("Failed to read line " + line + ". " + ex.getMessage(), ex);
+        }
+    }
+
+    private static boolean isBlank(final byte[] data, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            byte character = data[i];
+            if (character != ' ' && character != '\t' && character != '\r') return false;
+        }
+
+        return true;
+    }
+
+    private static InputStream open(final Path file) throws KsonException {
+        try {
+            return Files.newInputStream(file);
+        } catch (IOException ex) {
+            throw new KsonException(ex);
+        }
+    }
+
+    /**
+     * Represents the parallel parsing of
+     * the lines. Lines are split in batches, and
+     * up to a few batches per pool thread are kept
+     * being parsed ahead of the consumer
+     */
+    private final class Pipeline implements Iterator<JsonInstance> {
+
+        private final ExecutorService pool;
+        private final boolean ordered;
+        private final int window;
+
+        private final Deque<Future<JsonInstance[]>> pending = new ArrayDeque<>();
+        private final CompletionService<JsonInstance[]> completion;
+
+        private JsonInstance[] batch;
+        private int index = 0;
+
+        /**
+         * Initialize the pipeline
+         *
+         * @param pool the pool to parse the lines in
+         * @param ordered if the lines should be kept
+         *                in order
+         */
+        Pipeline(final ExecutorService pool, final boolean ordered) {
+            this.pool = pool;
+            this.ordered = ordered;
+            this.window = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+            this.completion = (ordered ? null : new ExecutorCompletionService<>(pool));
+
+            if (buffer.length < BATCH_SIZE) buffer = Arrays.copyOf(buffer, BATCH_SIZE);
+        }
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         *
+         * @return {@code true} if the iteration has more elements
+         * @throws KsonException if a line is malformed or
+         * the stream fails to read
+         */
+        @Override
+        public boolean hasNext() throws KsonException {
+            while (batch == null || index == batch.length) {
+                while (pending.size() < window) {
+                    if (!submit()) break;
+                }
+
+                if (pending.isEmpty()) return false;
+
+                batch = take();
+                index = 0;
+            }
+
+            return true;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         * @throws KsonException if a line is malformed or
+         * the stream fails to read
+         */
+        @Override
+        public JsonInstance next() throws NoSuchElementException, KsonException {
+            if (!hasNext()) throw new NoSuchElementException();
+            return batch[index++];
+        }
+
+        /**
+         * Discard the pending batches
+         */
+        void cancel() {
+            for (Future<JsonInstance[]> future : pending) future.cancel(true);
+            pending.clear();
+        }
+
+        /**
+         * Split the next batch of lines
+         * and send it to the pool
+         *
+         * @return if there was any line
+         * @throws KsonException if the stream fails to read
+         */
+        private boolean submit() throws KsonException {
+            if (!nextLine(true)) return false;
+
+            int first = lineStart;
+            int[] bounds = new int[32];
+            long[] lines = new long[16];
+            int count = 0;
+
+            do {
+                if (count == lines.length) {
+                    bounds = Arrays.copyOf(bounds, count << 2);
+                    lines = Arrays.copyOf(lines, count << 1);
+                }
+
+                bounds[count << 1] = lineStart - first;
+                bounds[(count << 1) + 1] = lineEnd - first;
+                lines[count++] = line;
+            } while (lineEnd - first < BATCH_SIZE && nextLine(false));
+
+            byte[] data = Arrays.copyOfRange(buffer, first, lineEnd);
+            int size = count;
+            int[] lineBounds = bounds;
+            long[] lineNumbers = lines;
+
+            Callable<JsonInstance[]> task = () -> {
+                JsonTokenizer tokenizer = new ByteTokenizer(data);
+                JsonReader reader = new JsonReader(tokenizer, lazyNumbers);
+
+                JsonInstance[] parsed = new JsonInstance[size];
+                for (int i = 0; i < size; i++) {
+                    parsed[i] = parse(tokenizer, reader, lineBounds[i << 1], lineBounds[(i << 1) + 1], lineNumbers[i]);
+                }
+
+                return parsed;
+            };
+
+            pending.add(ordered ? pool.submit(task) : completion.submit(task));
+            return true;
+        }
+
+        /**
+         * Wait for the next parsed batch
+         *
+         * @return the parsed lines
+         * @throws KsonException if a line is malformed
+         */
+        private JsonInstance[] take() throws KsonException {
+            try {
+                if (ordered) return pending.poll().get();
+
+                Future<JsonInstance[]> done = completion.take();
+                pending.remove(done);
+
+                return done.get();
+            } catch (ExecutionException ex) {
+                cancel();
+
+                Throwable cause = ex.getCause();
+                if (cause instanceof KsonException) throw (KsonException) cause;
+                throw new KsonException(cause);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new KsonException(ex);
+            }
+        }
+    }
+}
@@ -5,20 +5,29 @@ import es.karmadev.api.kson.processor.construct.CollectionParam;
 import es.karmadev.api.kson.processor.construct.JsonConstructor;
 import es.karmadev.api.kson.processor.construct.JsonParameter;
 import es.karmadev.api.kson.object.JsonNull;
+import es.karmadev.api.kson.object.type.NativeLazyNumber;
 import es.karmadev.api.kson.processor.conversor.FieldTransformer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.*;
 import java.lang.reflect.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Represents a json reader
  */
 public final class JsonReader {
 
-    private final byte[] raw;
+    private final JsonTokenizer tokenizer;
+    private final boolean lazyNumbers;
 
     /**
      * Initialize the json reader
@@ -26,32 +35,100 @@ public final class JsonReader {
      * @param rawData the raw json data
      */
     private JsonReader(final byte[] rawData) {
-        this.raw = rawData;
+        this(new ByteTokenizer(rawData));
     }
 
     /**
-     * Parses the data
+     * Initialize the json reader
+     *
+     * @param tokenizer the tokenizer to read from
+     */
+    private JsonReader(final JsonTokenizer tokenizer) {
+        this(tokenizer, false);
+    }
+
+    /**
+     * Initialize the json reader
+     *
+     * @param tokenizer the tokenizer to read from
+     * @param lazyNumbers if numbers should be kept as
+     *                    {@link NativeLazyNumber raw text}
+     */
+    JsonReader(final JsonTokenizer tokenizer, final boolean lazyNumbers) {
+        this.tokenizer = tokenizer;
+        this.lazyNumbers = lazyNumbers;
+    }
+
+    /**
+     * Parses the data. The data must hold a
+     * single json, so anything but whitespace
+     * after it is reported as malformed
      *
      * @return the parsed data
      * @throws KsonException if the data is invalid
      */
-    private JsonInstance parse() throws KsonException {
-        JsonInstance instance;
-        String json = new String(raw);
+    JsonInstance parse() throws KsonException {
+        JsonInstance root = parse(tokenizer.nextToken());
+        tokenizer.nextToken();
 
-        if (json.startsWith("{")) {
-            instance = JsonObject.newObject("", "");
-        } else if (json.startsWith("[")) {
-            instance = JsonArray.newArray("", "");
-        } else {
-            char firstChar = '\0';
-            if (!json.isEmpty()) firstChar = json.charAt(0);
+        return root;
+    }
+
+    /**
+     * Parses the data, starting from
+     * an already read token
+     *
+     * @param token the first token
+     * @return the parsed data
+     * @throws KsonException if the data is invalid
+     */
+    JsonInstance parse(final JsonToken token) throws KsonException {
+        if (token == JsonToken.START_OBJECT) {
+            JsonObject object = JsonObject.newObject("", "");
+            readObject(object);
 
-            throw new KsonException("Malformed json at index 0. Expected { or [ but got " + firstChar);
+            return object;
         }
+        if (token == JsonToken.START_ARRAY) {
+            JsonArray array = JsonArray.newArray("", "");
+            readArray(array);
 
-        readObject(json, instance, 1);
-        return instance;
+            return array;
+        }
+
+        throw tokenizer.malformed("{ or [");
+    }
+
+    /**
+     * Parses the data, building only
+     * the elements on the paths. A root array
+     * can't be addressed by the paths, so it's
+     * read whole. The data must hold a single json
+     *
+     * @param paths the paths to build
+     * @return the parsed data
+     * @throws KsonException if the data is invalid
+     */
+    private JsonInstance project(final PathTrie paths) throws KsonException {
+        JsonToken token = tokenizer.nextToken();
+
+        JsonInstance root;
+        if (token == JsonToken.START_OBJECT) {
+            JsonObject object = JsonObject.newObject("", "");
+            projectObject(object, paths);
+
+            root = object;
+        } else if (token == JsonToken.START_ARRAY) {
+            JsonArray array = JsonArray.newArray("", "");
+            readArray(array);
+
+            root = array;
+        } else {
+            throw tokenizer.malformed("{ or [");
+        }
+
+        tokenizer.nextToken();
+        return root;
     }
 
     /**
@@ -241,257 +318,329 @@ public final class JsonReader {
         }
     }
 
-    private int readObject(final String rawString, final JsonInstance element, final int from) {
-        byte[] raw = rawString.getBytes();
-        StringBuilder valueBuilder = new StringBuilder();
-
-        boolean buildingValue = false;
-
-        String currentKey = null;
-        for (int i = from; i < raw.length; i++) {
-            char character = (char) raw[i];
+    private void readObject(final JsonObject object) {
+        String childPath = childPath(object);
+        while (tokenizer.nextToken() != JsonToken.END_OBJECT) {
+            String key = tokenizer.getName();
+            JsonInstance value = readValue(tokenizer.nextToken(), object, childPath, key);
 
-            if (Character.isSpaceChar(character)) {
-                if (buildingValue && valueBuilder.length() > 0) {
-                    buildingValue = false;
-                    append(currentKey, valueBuilder, element.getPath(), element);
-                    currentKey = null;
-
-                    valueBuilder.setLength(0);
-                }
-
-                continue;
-            }
-
-            if (character == '"') {
-                int end = getNextOccurrence(raw, i, '"');
-                if (end == -1) {
-                    throw new KsonException("Malformed json at " + rawString.substring(0, i + 1));
-                }
-
-                String value = new String(raw, i + 1, (end - 1) - i);
-                i = end;
-
-                if (currentKey != null && valueBuilder.length() > 0 && buildingValue) {
-                    buildingValue = false;
-                    append(currentKey, valueBuilder, element.getPath(), element);
-
-                    valueBuilder.setLength(0);
-                    currentKey = null;
-                }
-
-                if (currentKey == null) {
-                    currentKey = value;
-                } else {
-                    if (!buildingValue) {
-                        if (element instanceof JsonArray) {
-                            ((JsonArray) element).add(currentKey);
-                            ((JsonArray) element).add(value);
-                        } else {
-                            throw new KsonException("Malformed json at " + rawString.substring(0, i + 1));
-                        }
-                    }
-
-                    if (element instanceof JsonObject) {
-                        ((JsonObject) element).put(currentKey, value);
-                    }
-
-                    currentKey = null;
-                    buildingValue = false;
-                }
-
-                continue;
-            }
+            object.put(key, value);
+        }
+    }
 
-            if (character == ':') {
-                buildingValue = true;
+    private void projectObject(final JsonObject object, final PathTrie paths) {
+        String childPath = childPath(object);
+        while (tokenizer.nextToken() != JsonToken.END_OBJECT) {
+            String key = tokenizer.getName();
+            PathTrie child = paths.child(key);
+            if (child == null) {
+                tokenizer.skipValue();
                 continue;
             }
 
-            if (character == '{') {
-                if (currentKey == null) {
-                    currentKey = "";
-                }
-
-                String p = element.getPath();
-                if (element.getPath().isEmpty()) {
-                    p = element.getKey();
-                } else {
-                    p = element.getPath() + '.' + element.getKey();
-                }
-
-                JsonObject object = JsonObject.newObject(p, currentKey, element.getPathSeparator());
-                i = readObject(rawString, object, i + 1);
-
-                if (element instanceof JsonArray) {
-                    ((JsonArray) element).add(object);
-                } else {
-                    ((JsonObject) element).put(currentKey, object);
-                }
-
-                currentKey = null;
-                buildingValue = false;
+            JsonToken token = tokenizer.nextToken();
+            if (child.isTerminal()) {
+                object.put(key, readValue(token, object, childPath, key));
                 continue;
             }
 
-            if (character == '[') {
-                if (currentKey == null) {
-                    currentKey = element.getKey();
-                }
-
-                String p;
-                if (element.getPath().isEmpty()) {
-                    p = element.getKey();
-                } else {
-                    p = element.getPath() + '.' + element.getKey();
-                }
-
-                JsonArray array = JsonArray.newArray(p, currentKey, '.');
-                i = readObject(rawString, array, i + 1);
-
-                if (element instanceof JsonArray) {
-                    ((JsonArray) element).add(array);
-                } else {
-                    ((JsonObject) element).put(currentKey, array);
-                }
+            if (token == JsonToken.START_OBJECT) {
+                JsonObject nested = JsonObject.newObject(childPath, key, object.getPathSeparator());
+                projectObject(nested, child);
 
-                currentKey = null;
-                buildingValue = false;
-                continue;
+                if (!nested.isEmpty()) object.put(key, nested);
+            } else if (token == JsonToken.START_ARRAY) {
+                tokenizer.skipChildren();
             }
+        }
+    }
 
-            if (character == ',') {
-                if (currentKey != null) {
-                    if (element instanceof JsonArray) {
-                        ((JsonArray) element).add(currentKey);
-                    } else {
-                        buildingValue = false;
-
-                        append(currentKey, valueBuilder, element.getPath(), element);
-                        valueBuilder.setLength(0);
-                    }
+    private void readArray(final JsonArray array) {
+        String childPath = childPath(array);
 
+        JsonToken token;
+        while ((token = tokenizer.nextToken()) != JsonToken.END_ARRAY) {
+            String key = (token == JsonToken.START_ARRAY ? array.getKey() : "");
+            array.add(readValue(token, array, childPath, key));
+        }
+    }
 
-                    currentKey = null;
-                }
+    JsonInstance readValue(final JsonToken token, final JsonInstance parent, final String childPath, final String key) {
+        switch (token) {
+            case START_OBJECT:
+                JsonObject object = JsonObject.newObject(childPath, key, parent.getPathSeparator());
+                readObject(object);
+
+                return object;
+            case START_ARRAY:
+                JsonArray array = JsonArray.newArray(childPath, key, '.');
+                readArray(array);
+
+                return array;
+            case VALUE_STRING:
+                return JsonNative.forSequence(parent.getPath(), key, '.', tokenizer.getText());
+            case VALUE_NUMBER_INT:
+                if (lazyNumbers) return new NativeLazyNumber(parent.getPath(), key, '.', tokenizer.getText());
+                if (tokenizer.isLong()) return forInteger(parent.getPath(), key, tokenizer.getLong());
+                return JsonNative.forNumber(parent.getPath(), key, '.', tokenizer.getDouble());
+            case VALUE_NUMBER_FLOAT:
+                if (lazyNumbers) return new NativeLazyNumber(parent.getPath(), key, '.', tokenizer.getText());
+                return JsonNative.forNumber(parent.getPath(), key, '.', tokenizer.getDouble());
+            case VALUE_TRUE:
+                return JsonNative.forBoolean(parent.getPath(), key, '.', true);
+            case VALUE_FALSE:
+                return JsonNative.forBoolean(parent.getPath(), key, '.', false);
+            default:
+                return JsonNull.get(parent.getPath(), key, '.');
+        }
+    }
 
-                continue;
-            }
+    static String childPath(final JsonInstance element) {
+        if (element.getPath().isEmpty()) return element.getKey();
+        return element.getPath() + '.' + element.getKey();
+    }
 
-            if (character == ']' && element instanceof JsonArray) {
-                JsonArray array = (JsonArray) element;
-                if (valueBuilder.length() > 0) {
-                    JsonInstance instance = buildNative(array.getPath(), array.getKey(), valueBuilder.toString());
-                    array.add(instance);
-                }
+    private static JsonNative buildNative(final String path, final String key, final String raw) {
+        if (raw.equals("true") || raw.equals("false")) {
+            return JsonNative.forBoolean(path, key, '.', Boolean.parseBoolean(raw));
+        }
 
-                if (currentKey != null) {
-                    array.add(currentKey);
-                }
+        if (raw.contains(",") || raw.contains(".") || raw.contains("e") || raw.contains("E")) {
+            try {
+                return JsonNative.forNumber(path, key, '.', Double.parseDouble(raw));
+            } catch (NumberFormatException ignored) {}
 
-                return i;
+            try {
+                double db = Double.parseDouble(raw.replace(",", "").replace("_", ""));
+                return JsonNative.forNumber(path, key, '.', db);
+            } catch (NumberFormatException ex) {
+                return JsonNative.forSequence(path, key, '.', raw);
             }
-
-            if (character == '}' && element instanceof JsonObject) {
-                if (currentKey != null) {
-                    append(currentKey, valueBuilder, element.getPath(), element);
-                    valueBuilder.setLength(0);
+        } else {
+            int length = raw.length();
+            boolean negative = length > 1 && raw.charAt(0) == '-';
+
+            long value = 0;
+            int index = (negative ? 1 : 0);
+            while (index < length) {
+                int digit = raw.charAt(index++) - '0';
+                if (digit < 0 || digit > 9) break;
+                if (value < Long.MIN_VALUE / 10 || (value == Long.MIN_VALUE / 10 && digit > 8)) break;
+
+                value = value * 10 - digit;
+                if (index == length) {
+                    if (negative) return forInteger(path, key, value);
+                    if (value != Long.MIN_VALUE) return forInteger(path, key, -value);
                 }
-
-                return i;
             }
-
-            if (Character.isLetterOrDigit(character) && buildingValue)
-                valueBuilder.append(character);
         }
 
-        return raw.length;
+        return JsonNull.get(path, key, '.');
     }
 
-    private void append(final String key, final StringBuilder valueBuilder,
-                        final String path, final JsonInstance target) {
+    /**
+     * Create a native number for the integer,
+     * using the narrowest type the integer
+     * fits in
+     *
+     * @param path the number path
+     * @param key the number key
+     * @param value the integer
+     * @return the native number
+     */
+    private static JsonNative forInteger(final String path, final String key, final long value) {
+        if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) return JsonNative.forNumber(path, key, '.', (byte) value);
+        if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) return JsonNative.forNumber(path, key, '.', (short) value);
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) return JsonNative.forNumber(path, key, '.', (int) value);
 
-        String value = valueBuilder.toString();
-        JsonNative result = buildNative(path, key, value);
+        return JsonNative.forNumber(path, key, '.', value);
+    }
 
-        if (target instanceof JsonObject) {
-            ((JsonObject) target).put(key, result);
-        } else {
-            ((JsonArray) target).add(result);
-        }
+    /**
+     * Read a json
+     *
+     * @param data the raw json data to read
+     * @return the json instance
+     * @throws KsonException if the data fails to parse
+     */
+    public static JsonInstance parse(final byte[] data) throws KsonException {
+        return parse(data, false);
     }
 
-    private static JsonNative buildNative(final String path, final String key, final String raw) {
-        if (raw.equals("true") || raw.equals("false")) {
-            return JsonNative.forBoolean(path, key, '.', Boolean.parseBoolean(raw));
-        }
+    /**
+     * Read a json
+     *
+     * @param data the raw json data to read
+     * @param lazyNumbers if numbers should be kept as
+     *                    they were written, and only converted
+     *                    when requested
+     * @return the json instance
+     * @throws KsonException if the data fails to parse
+     */
+    public static JsonInstance parse(final byte[] data, final boolean lazyNumbers) throws KsonException {
+        JsonReader reader = new JsonReader(new ByteTokenizer(data), lazyNumbers);
+        return reader.parse();
+    }
 
-        if (raw.contains(",") || raw.contains(".") || raw.contains("e")) {
-            try {
-                float fl = Float.parseFloat(raw.replace(",", "").replace("_", ""));
-                return JsonNative.forNumber(path, key, '.', fl);
-            } catch (NumberFormatException flException) {
-                try {
-                    double db = Double.parseDouble(raw.replace(",", "").replace("_", ""));
-                    return JsonNative.forNumber(path, key, '.', db);
-                } catch (NumberFormatException ex) {
-                    return JsonNative.forSequence(path, key, '.', raw);
-                }
-            }
-        } else {
-            try {
-                byte b = Byte.parseByte(raw);
-                return JsonNative.forNumber(path, key, '.', b);
-            } catch (NumberFormatException ignored) {}
+    /**
+     * Read a json, using all the available
+     * cores when its root is an array. The array
+     * elements are parsed in parallel in the
+     * {@link ForkJoinPool#commonPool() common pool}
+     *
+     * @param data the raw json data to read
+     * @return the json instance
+     * @throws KsonException if the data fails to parse
+     */
+    public static JsonInstance readParallel(final byte[] data) throws KsonException {
+        return readParallel(data, ForkJoinPool.commonPool());
+    }
 
-            try {
-                short s = Short.parseShort(raw);
-                return JsonNative.forNumber(path, key, '.', s);
-            } catch (NumberFormatException ignored) {}
+    /**
+     * Read a json, parsing the elements of its
+     * root array in parallel. The array is first
+     * scanned for the bounds of its elements, and
+     * then the elements are split in chunks which
+     * are parsed concurrently in the pool. Any other
+     * json is read as usual
+     *
+     * @param data the raw json data to read
+     * @param pool the pool to parse the elements in
+     * @return the json instance
+     * @throws KsonException if the data fails to parse
+     */
+    public static JsonInstance readParallel(final byte[] data, final ForkJoinPool pool) throws KsonException {
+        int start = 0;
+        while (start < data.length && (data[start] == ' ' || data[start] == '\t' || data[start] == '\n' || data[start] == '\r')) start++;
 
-            try {
-                int i = Integer.parseInt(raw);
-                return JsonNative.forNumber(path, key, '.', i);
-            } catch (NumberFormatException ignored) {}
+        if (start == data.length || data[start] != '[') return parse(data);
+        return ParallelArrayTask.read(data, start, pool);
+    }
 
-            try {
-                long l = Long.parseLong(raw);
-                return JsonNative.forNumber(path, key, '.', l);
-            } catch (NumberFormatException ignored) {}
+    /**
+     * Read a json file, parsing the elements
+     * of its root array in parallel
+     *
+     * @param file the file to read
+     * @return the json instance
+     * @throws KsonException if the file fails to
+     * read or the data fails to parse
+     */
+    public static JsonInstance readParallel(final Path file) throws KsonException {
+        try {
+            return readParallel(Files.readAllBytes(file));
+        } catch (IOException ex) {
+            throw new KsonException(ex);
         }
-
-        return JsonNull.get(path, key, '.');
     }
 
-    private int getNextOccurrence(final byte[] raw, final int from, final char of) {
-        boolean escape = false;
+    /**
+     * Read only some elements of a json. Only
+     * the elements on the paths are built, while
+     * everything else is skipped without being read.
+     * The paths follow the same format {@link JsonObject#getChild(String)}
+     * does, so the elements can be retrieved from the
+     * returned object with the same paths
+     *
+     * @param data the raw json data to read
+     * @param paths the paths of the elements to read
+     * @return the json instance, holding only the
+     * requested elements, or the whole array if the
+     * json is an array
+     * @throws KsonException if the data fails to parse
+     */
+    public static JsonInstance project(final byte[] data, final String... paths) throws KsonException {
+        JsonReader reader = new JsonReader(data);
+        return reader.project(PathTrie.of('.', paths));
+    }
 
-        for (int i = from + 1; i < raw.length; i++) {
-            char character = (char) raw[i];
-            if (character == '\\') {
-                escape = !escape;
-                continue;
-            }
+    /**
+     * Read only some elements of a json. Only
+     * the elements on the paths are built, while
+     * everything else is skipped without being read
+     *
+     * @param json the raw json to read
+     * @param paths the paths of the elements to read
+     * @return the json instance, holding only the
+     * requested elements, or the whole array if the
+     * json is an array
+     * @throws KsonException if the data fails to parse
+     */
+    public static JsonInstance project(final String json, final String... paths) throws KsonException {
+        return project(json.getBytes(StandardCharsets.UTF_8), paths);
+    }
 
-            if (character == of && !escape) {
-                return i;
-            }
-            escape = false;
+    /**
+     * Read only some elements of a json. Only
+     * the elements on the paths are built, while
+     * everything else is skipped without being read
+     *
+     * @param stream the stream to read from
+     * @param paths the paths of the elements to read
+     * @return the json instance, holding only the
+     * requested elements, or the whole array if the
+     * json is an array
+     * @throws KsonException if the data fails to parse
+     */
+    public static JsonInstance project(final InputStream stream, final String... paths) throws KsonException {
+        JsonReader reader = new JsonReader(new ByteTokenizer(stream, JsonTokenizer.DEFAULT_BUFFER_SIZE));
+        try {
+            return reader.project(PathTrie.of('.', paths));
+        } finally {
+            reader.tokenizer.release();
         }
+    }
 
-        return -1;
+    /**
+     * Index a json. Instead of building every
+     * element, only the position of the json
+     * structure is read, and the returned object or
+     * array builds each element the first time it's
+     * requested. This is much cheaper when only a few
+     * elements of a big json are needed. The returned
+     * elements are not thread safe, and the json is only
+     * fully validated as its elements are built
+     *
+     * @param data the raw json data to index
+     * @return the json instance
+     * @throws KsonException if the json structure is invalid
+     */
+    public static JsonInstance index(final byte[] data) throws KsonException {
+        return index(data, false);
     }
 
     /**
-     * Read a json
+     * Index a json. Instead of building every
+     * element, only the position of the json
+     * structure is read, and the returned object or
+     * array builds each element the first time it's
+     * requested
      *
-     * @param data the raw json data to read
+     * @param data the raw json data to index
+     * @param lazyNumbers if numbers should be kept as
+     *                    they were written, and only converted
+     *                    when requested
      * @return the json instance
-     * @throws KsonException if the data fails to parse
+     * @throws KsonException if the json structure is invalid
      */
-    public static JsonInstance parse(final byte[] data) throws KsonException {
-        JsonReader reader = new JsonReader(data);
-        return reader.parse();
+    public static JsonInstance index(final byte[] data, final boolean lazyNumbers) throws KsonException {
+        StructuralIndex index = new StructuralIndex(data, lazyNumbers);
+        return index.root();
+    }
+
+    /**
+     * Index a json. Instead of building every
+     * element, only the position of the json
+     * structure is read, and the returned object or
+     * array builds each element the first time it's
+     * requested
+     *
+     * @param json the raw json to index
+     * @return the json instance
+     * @throws KsonException if the json structure is invalid
+     */
+    public static JsonInstance index(final String json) throws KsonException {
+        return index(json.getBytes(StandardCharsets.UTF_8), false);
     }
 
     /**
@@ -509,6 +658,89 @@ public final class JsonReader {
         return reader.load(type);
     }
 
+    /**
+     * Scan a json, reporting every element
+     * to the handler instead of building it
+     *
+     * @param data the raw json data to scan
+     * @param handler the handler to report the elements to
+     * @return if the whole json was scanned, false if
+     * the handler stopped the scan
+     * @throws KsonException if the data is malformed
+     */
+    public static boolean scan(final byte[] data, final JsonHandler handler) throws KsonException {
+        return scan(new ByteTokenizer(data), handler);
+    }
+
+    /**
+     * Scan a json, reporting every element
+     * to the handler instead of building it
+     *
+     * @param json the raw json to scan
+     * @param handler the handler to report the elements to
+     * @return if the whole json was scanned, false if
+     * the handler stopped the scan
+     * @throws KsonException if the data is malformed
+     */
+    public static boolean scan(final String json, final JsonHandler handler) throws KsonException {
+        return scan(json.getBytes(StandardCharsets.UTF_8), handler);
+    }
+
+    /**
+     * Scan a json, reporting every element
+     * to the handler instead of building it
+     *
+     * @param stream the stream to scan
+     * @param handler the handler to report the elements to
+     * @return if the whole json was scanned, false if
+     * the handler stopped the scan
+     * @throws KsonException if the data is malformed
+     */
+    public static boolean scan(final InputStream stream, final JsonHandler handler) throws KsonException {
+        return scan(new ByteTokenizer(stream, JsonTokenizer.DEFAULT_BUFFER_SIZE), handler);
+    }
+
+    private static boolean scan(final JsonTokenizer tokenizer, final JsonHandler handler) {
+        try {
+            JsonToken token;
+            while ((token = tokenizer.nextToken()) != null) {
+                if (!dispatch(tokenizer, token, handler)) return false;
+            }
+
+            return true;
+        } finally {
+            tokenizer.release();
+        }
+    }
+
+    private static boolean dispatch(final JsonTokenizer tokenizer, final JsonToken token, final JsonHandler handler) {
+        switch (token) {
+            case START_OBJECT:
+                return handler.startObject();
+            case END_OBJECT:
+                return handler.endObject();
+            case START_ARRAY:
+                return handler.startArray();
+            case END_ARRAY:
+                return handler.endArray();
+            case FIELD_NAME:
+                return handler.fieldName(tokenizer.getName());
+            case VALUE_STRING:
+                return handler.value(tokenizer.getText());
+            case VALUE_NUMBER_INT:
+                if (tokenizer.isLong()) return handler.value(tokenizer.getLong());
+                return handler.value(tokenizer.getDouble());
+            case VALUE_NUMBER_FLOAT:
+                return handler.value(tokenizer.getDouble());
+            case VALUE_TRUE:
+                return handler.value(true);
+            case VALUE_FALSE:
+                return handler.value(false);
+            default:
+                return handler.nullValue();
+        }
+    }
+
     /**
      * Map a java map into a json object
      *
@@ -622,10 +854,21 @@ public final class JsonReader {
      * @throws KsonException if the data fails to parse
      */
     public static JsonInstance read(final String json) throws KsonException {
-        byte[] data = json.getBytes();
+        return read(json, false);
+    }
 
-        JsonReader reader = new JsonReader(data);
-        return reader.parse();
+    /**
+     * Read a json
+     *
+     * @param json the raw json to read
+     * @param lazyNumbers if numbers should be kept as
+     *                    they were written, and only converted
+     *                    when requested
+     * @return the json instance
+     * @throws KsonException if the data fails to parse
+     */
+    public static JsonInstance read(final String json, final boolean lazyNumbers) throws KsonException {
+        return parse(json.getBytes(StandardCharsets.UTF_8), lazyNumbers);
     }
 
     /**
@@ -639,7 +882,7 @@ public final class JsonReader {
      * the element fails to load
      */
     public static <T> T load(final Class<T> type, final String json) throws KsonException {
-        byte[] data = json.getBytes();
+        byte[] data = json.getBytes(StandardCharsets.UTF_8);
 
         JsonReader reader = new JsonReader(data);
         return reader.load(type);
@@ -654,16 +897,25 @@ public final class JsonReader {
      */
     @Nullable
     public static JsonInstance read(final InputStream stream) throws KsonException {
-        try {
-            byte[] bytes = new byte[stream.available()];
-
-            DataInputStream dataInputStream = new DataInputStream(stream);
-            dataInputStream.readFully(bytes);
+        return read(stream, false);
+    }
 
-            JsonReader reader = new JsonReader(bytes);
+    /**
+     * Read a json
+     *
+     * @param stream the stream to read from
+     * @param lazyNumbers if numbers should be kept as
+     *                    they were written, and only converted
+     *                    when requested
+     * @return the json instance
+     * @throws KsonException if the data fails to parse
+     */
+    public static JsonInstance read(final InputStream stream, final boolean lazyNumbers) throws KsonException {
+        JsonReader reader = new JsonReader(new ByteTokenizer(stream, JsonTokenizer.DEFAULT_BUFFER_SIZE), lazyNumbers);
+        try {
             return reader.parse();
-        } catch (IOException ex) {
-            throw new KsonException(ex);
+        } finally {
+            reader.tokenizer.release();
         }
     }
 
@@ -678,14 +930,86 @@ public final class JsonReader {
      * the element fails to load
      */
     public static <T> T load(final Class<T> type, final InputStream stream) throws KsonException {
+        JsonReader reader = new JsonReader(new ByteTokenizer(stream, JsonTokenizer.DEFAULT_BUFFER_SIZE));
         try {
-            byte[] bytes = new byte[stream.available()];
+            return reader.load(type);
+        } finally {
+            reader.tokenizer.release();
+        }
+    }
 
-            DataInputStream dataInputStream = new DataInputStream(stream);
-            dataInputStream.readFully(bytes);
+    /**
+     * Read a json file. The file is mapped
+     * into memory and parsed straight from the
+     * mapping, so it is never copied whole into
+     * the heap
+     *
+     * @param file the file to read
+     * @return the json instance
+     * @throws KsonException if the file fails to
+     * map or the data fails to parse
+     */
+    public static JsonInstance read(final Path file) throws KsonException {
+        return read(file, false);
+    }
+
+    /**
+     * Read a json file. The file is mapped
+     * into memory and parsed straight from the
+     * mapping, so it is never copied whole into
+     * the heap
+     *
+     * @param file the file to read
+     * @param lazyNumbers if numbers should be kept as
+     *                    they were written, and only converted
+     *                    when requested
+     * @return the json instance
+     * @throws KsonException if the file fails to
+     * map or the data fails to parse
+     */
+    public static JsonInstance read(final Path file, final boolean lazyNumbers) throws KsonException {
+        JsonReader reader = new JsonReader(map(file), lazyNumbers);
+        try {
+            return reader.parse();
+        } finally {
+            reader.tokenizer.release();
+        }
+    }
 
-            JsonReader reader = new JsonReader(bytes);
+    /**
+     * Load an object from a json file. The
+     * file is mapped into memory and parsed
+     * straight from the mapping, so it is never
+     * copied whole into the heap
+     *
+     * @param type the json real type
+     * @param file the file to read
+     * @return the loaded element
+     * @param <T> the element type
+     * @throws KsonException if the file fails to map,
+     * the data fails to parse or the element fails to load
+     */
+    public static <T> T load(final Class<T> type, final Path file) throws KsonException {
+        JsonReader reader = new JsonReader(map(file));
+        try {
             return reader.load(type);
+        } finally {
+            reader.tokenizer.release();
+        }
+    }
+
+    private static JsonTokenizer map(final Path file) throws KsonException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int count = (int) ((size + Integer.MAX_VALUE - 1) / Integer.MAX_VALUE);
+
+            ByteBuffer[] regions = new ByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long position = (long) i * Integer.MAX_VALUE;
+                regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(Integer.MAX_VALUE, size - position));
+            }
+
+            return new ByteTokenizer(regions, JsonTokenizer.DEFAULT_BUFFER_SIZE);
         } catch (IOException ex) {
             throw new KsonException(ex);
         }
@@ -701,21 +1025,30 @@ public final class JsonReader {
      */
     @Nullable
     public static JsonInstance read(final Reader reader) throws KsonException {
-        StringBuilder result = new StringBuilder();
-        char[] buffer = new char[1024];
+        return read(reader, false);
+    }
 
-        int readChars;
+    /**
+     * Read a json
+     *
+     * @param reader the reader that is reading
+     *               the json
+     * @param lazyNumbers if numbers should be kept as
+     *                    they were written, and only converted
+     *                    when requested
+     * @return the json instance
+     * @throws KsonException if the data fails to parse
+     */
+    @Nullable
+    public static JsonInstance read(final Reader reader, final boolean lazyNumbers) throws KsonException {
+        JsonReader rd = new JsonReader(new CharTokenizer(reader, JsonTokenizer.DEFAULT_BUFFER_SIZE), lazyNumbers);
         try {
-            while ((readChars = reader.read(buffer)) != -1) {
-                result.append(buffer, 0, readChars);
-            }
-
-            byte[] data = result.toString().getBytes();
-
-            JsonReader rd = new JsonReader(data);
             return rd.parse();
-        } catch (IOException ex) {
-            return null;
+        } catch (KsonException ex) {
+            if (ex.getCause() instanceof IOException) return null;
+            throw ex;
+        } finally {
+            rd.tokenizer.release();
         }
     }
 
@@ -731,21 +1064,14 @@ public final class JsonReader {
      * the element fails to load
      */
     public static <T> T load(final Class<T> type, final Reader reader) throws KsonException {
-        StringBuilder result = new StringBuilder();
-        char[] buffer = new char[1024];
-
-        int readChars;
+        JsonReader rd = new JsonReader(new CharTokenizer(reader, JsonTokenizer.DEFAULT_BUFFER_SIZE));
         try {
-            while ((readChars = reader.read(buffer)) != -1) {
-                result.append(buffer, 0, readChars);
-            }
-
-            byte[] data = result.toString().getBytes();
-
-            JsonReader rd = new JsonReader(data);
             return rd.load(type);
-        } catch (IOException ex) {
-            return null;
+        } catch (KsonException ex) {
+            if (ex.getCause() instanceof IOException) return null;
+            throw ex;
+        } finally {
+            rd.tokenizer.release();
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,157 @@
+package es.karmadev.api.kson.io;
+
+import es.karmadev.api.kson.JsonInstance;
+import es.karmadev.api.kson.KsonException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Represents a reader of concatenated jsons,
+ * in where a single source holds many jsons one
+ * right after the other, with any whitespace in
+ * between. For instance:
+ * <pre>
+ * {"id": 1}{"id": 2} [1, 2, 3]
+ * </pre>
+ * Each json is returned as soon as it's complete,
+ * without waiting for the next one to arrive, and the
+ * same tokenizer and buffer are used for all of them
+ */
+@SuppressWarnings("unused")
+public final class JsonSequenceReader implements Iterator<JsonInstance>, Closeable {
+
+    private final Closeable source;
+    private final JsonTokenizer tokenizer;
+    private final JsonReader reader;
+
+    private JsonToken first;
+
+    /**
+     * Initialize the json sequence reader
+     *
+     * @param stream the stream to read the jsons from
+     */
+    public JsonSequenceReader(final InputStream stream) {
+        this(stream, false);
+    }
+
+    /**
+     * Initialize the json sequence reader
+     *
+     * @param stream the stream to read the jsons from
+     * @param lazyNumbers if numbers should be kept as
+     *                    they were written, and only converted
+     *                    when requested
+     */
+    public JsonSequenceReader(final InputStream stream, final boolean lazyNumbers) {
+        this(stream, new ByteTokenizer(stream, JsonTokenizer.DEFAULT_BUFFER_SIZE), lazyNumbers);
+    }
+
+    /**
+     * Initialize the json sequence reader
+     *
+     * @param reader the reader to read the jsons from
+     */
+    public JsonSequenceReader(final Reader reader) {
+        this(reader, false);
+    }
+
+    /**
+     * Initialize the json sequence reader
+     *
+     * @param reader the reader to read the jsons from
+     * @param lazyNumbers if numbers should be kept as
+     *                    they were written, and only converted
+     *                    when requested
+     */
+    public JsonSequenceReader(final Reader reader, final boolean lazyNumbers) {
+        this(reader, new CharTokenizer(reader, JsonTokenizer.DEFAULT_BUFFER_SIZE), lazyNumbers);
+    }
+
+    /**
+     * Initialize the json sequence reader
+     *
+     * @param source the source of the jsons
+     * @param tokenizer the tokenizer reading the source
+     * @param lazyNumbers if numbers should be kept as
+     *                    they were written
+     */
+    private JsonSequenceReader(final Closeable source, final JsonTokenizer tokenizer, final boolean lazyNumbers) {
+        this.source = source;
+        this.tokenizer = tokenizer;
+        this.reader = new JsonReader(tokenizer, lazyNumbers);
+    }
+
+    /**
+     * Returns {@code true} if the iteration has more elements.
+     * This waits until the next json starts, or the source ends
+     *
+     * @return {@code true} if the iteration has more elements
+     * @throws KsonException if the source fails to read
+     */
+    @Override
+    public boolean hasNext() throws KsonException {
+        if (first != null) return true;
+
+        tokenizer.nextDocument();
+        first = tokenizer.nextToken();
+
+        return first != null;
+    }
+
+    /**
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException if the iteration has no more elements
+     * @throws KsonException if the json is malformed or
+     * the source fails to read
+     */
+    @Override
+    public JsonInstance next() throws NoSuchElementException, KsonException {
+        if (!hasNext()) throw new NoSuchElementException();
+
+        JsonToken token = first;
+        first = null;
+
+        return reader.parse(token);
+    }
+
+    /**
+     * Get the jsons as a stream. The
+     * stream reads from this reader, so
+     * only one of them should be used
+     *
+     * @return the jsons stream
+     */
+    public Stream<JsonInstance> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(this::close);
+    }
+
+    /**
+     * Closes this stream and releases any system resources associated
+     * with it. The reader can't be used anymore after this
+     *
+     * @throws KsonException if the source fails to close
+     */
+    @Override
+    public void close() throws KsonException {
+        tokenizer.release();
+
+        try {
+            source.close();
+        } catch (IOException ex) {
+            throw new KsonException(ex);
+        }
+    }
+}
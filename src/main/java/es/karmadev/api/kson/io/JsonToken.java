@@ -0,0 +1,66 @@
+package es.karmadev.api.kson.io;
+
+/**
+ * Represents a json token, which is
+ * the minimum unit a json document is
+ * split into when read through a {@link JsonCursor cursor}
+ */
+public enum JsonToken {
+    /**
+     * The start of an object, represented
+     * by <code>{</code>
+     */
+    START_OBJECT,
+    /**
+     * The end of an object, represented
+     * by <code>}</code>
+     */
+    END_OBJECT,
+    /**
+     * The start of an array, represented
+     * by <code>[</code>
+     */
+    START_ARRAY,
+    /**
+     * The end of an array, represented
+     * by <code>]</code>
+     */
+    END_ARRAY,
+    /**
+     * An object key
+     */
+    FIELD_NAME,
+    /**
+     * A string value
+     */
+    VALUE_STRING,
+    /**
+     * A number value without fraction
+     * nor exponent
+     */
+    VALUE_NUMBER_INT,
+    /**
+     * A number value with fraction
+     * or exponent
+     */
+    VALUE_NUMBER_FLOAT,
+    /**
+     * The <code>true</code> literal
+     */
+    VALUE_TRUE,
+    /**
+     * The <code>false</code> literal
+     */
+    VALUE_FALSE,
+    /**
+     * The <code>null</code> literal
+     */
+    VALUE_NULL,
+    /**
+     * Not a real token, but the signal
+     * a {@link JsonFeedCursor feed cursor} gives
+     * when the next token is not whole yet, and
+     * more data must be fed to read it
+     */
+    NEED_MORE_INPUT
+}
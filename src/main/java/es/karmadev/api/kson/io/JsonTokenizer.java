@@ -0,0 +1,841 @@
+package es.karmadev.api.kson.io;
+
+import es.karmadev.api.kson.KsonException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Represents a json tokenizer. The tokenizer
+ * walks the raw json only once, with a single
+ * cursor shared by the whole document, and splits
+ * it into {@link JsonToken tokens}. The json is
+ * read through a window, which implementations may
+ * refill in chunks from their source; the window
+ * only grows when a single token does not fit in it
+ */
+abstract class JsonTokenizer {
+
+    /**
+     * The default size of the window used
+     * when reading from a stream
+     */
+    final static int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final static byte TYPE_OTHER = 0;
+    private final static byte TYPE_SPACE = 1;
+    private final static byte TYPE_STRUCTURE = 2;
+    private final static byte TYPE_QUOTE = 3;
+    private final static byte TYPE_NUMBER = 4;
+    private final static byte TYPE_LITERAL = 5;
+
+    /**
+     * The type of each character, indexed
+     * by its unsigned byte value
+     */
+    private final static byte[] TYPES = new byte[256];
+
+    static {
+        TYPES[' '] = TYPE_SPACE;
+        TYPES['\t'] = TYPE_SPACE;
+        TYPES['\n'] = TYPE_SPACE;
+        TYPES['\r'] = TYPE_SPACE;
+
+        TYPES['{'] = TYPE_STRUCTURE;
+        TYPES['}'] = TYPE_STRUCTURE;
+        TYPES['['] = TYPE_STRUCTURE;
+        TYPES[']'] = TYPE_STRUCTURE;
+        TYPES[':'] = TYPE_STRUCTURE;
+        TYPES[','] = TYPE_STRUCTURE;
+
+        TYPES['"'] = TYPE_QUOTE;
+
+        TYPES['-'] = TYPE_NUMBER;
+        for (int i = '0'; i <= '9'; i++) {
+            TYPES[i] = TYPE_NUMBER;
+        }
+
+        TYPES['t'] = TYPE_LITERAL;
+        TYPES['f'] = TYPE_LITERAL;
+        TYPES['n'] = TYPE_LITERAL;
+    }
+
+    private final static byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private final static byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+    private final static byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private final static byte CONTEXT_OBJECT = 0;
+    private final static byte CONTEXT_ARRAY = 1;
+
+    private final static int STATE_ROOT = 0;
+    private final static int STATE_DONE = 1;
+    private final static int STATE_OBJECT_FIRST = 2;
+    private final static int STATE_OBJECT_VALUE = 3;
+    private final static int STATE_OBJECT_NEXT = 4;
+    private final static int STATE_ARRAY_FIRST = 5;
+    private final static int STATE_ARRAY_NEXT = 6;
+
+    protected int limit;
+    protected int position;
+    protected int mark;
+    protected long discarded;
+    protected boolean exhausted;
+    protected boolean escaped;
+
+    private byte[] contexts = new byte[16];
+    private int depth = 0;
+    private int state = STATE_ROOT;
+
+    private JsonToken token;
+    private int tokenStart;
+    private String name;
+    private String text;
+    private int numberStart;
+    private int numberEnd;
+    private long integer;
+    private boolean overflow;
+    private StringBuilder scratch;
+    private int anchor = -1;
+
+    /**
+     * Move to the next token
+     *
+     * @return the next token, or null if
+     * there are no more tokens
+     * @throws KsonException if the json is malformed
+     */
+    JsonToken nextToken() throws KsonException {
+        int character = nextSignificant();
+        switch (state) {
+            case STATE_ROOT:
+                if (character == -1) return token = null;
+                return token = readValue(character);
+            case STATE_DONE:
+                if (character == -1) return token = null;
+                throw malformed(tokenStart, "end of json");
+            case STATE_OBJECT_FIRST:
+                if (character == '}') return token = endContext(JsonToken.END_OBJECT);
+                return token = readName(character);
+            case STATE_OBJECT_VALUE:
+                if (character != ':') throw malformed(tokenStart, ":");
+                return token = readValue(nextSignificant());
+            case STATE_OBJECT_NEXT:
+                if (character == '}') return token = endContext(JsonToken.END_OBJECT);
+                if (character != ',') throw malformed(tokenStart, ", or }");
+                return token = readName(nextSignificant());
+            case STATE_ARRAY_FIRST:
+                if (character == ']') return token = endContext(JsonToken.END_ARRAY);
+                return token = readValue(character);
+            default:
+                if (character == ']') return token = endContext(JsonToken.END_ARRAY);
+                if (character != ',') throw malformed(tokenStart, ", or ]");
+                return token = readValue(nextSignificant());
+        }
+    }
+
+    /**
+     * Move to the next token, unless the
+     * data runs out in the middle of it. In that
+     * case, the tokenizer goes back to where it was,
+     * keeping the partial token in the window, so the
+     * same token can be read again once more data is
+     * available. The current token is kept as it was,
+     * number value and text included
+     *
+     * @return the next token, {@link JsonToken#NEED_MORE_INPUT}
+     * if the token is not whole yet, or null if there are no
+     * more tokens
+     * @throws KsonException if the json is malformed
+     */
+    JsonToken tryNextToken() throws KsonException {
+        JsonToken resumeToken = token;
+        int resumeState = state;
+        int resumeDepth = depth;
+        long resumeInteger = integer;
+        boolean resumeOverflow = overflow;
+
+        boolean number = (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT);
+        int origin = (number ? numberStart : position);
+        int offset = position - origin;
+
+        anchor = origin;
+        try {
+            return nextToken();
+        } catch (NeedMoreInput signal) {
+            int moved = origin - anchor;
+
+            position = anchor + offset;
+            state = resumeState;
+            depth = resumeDepth;
+            token = resumeToken;
+            integer = resumeInteger;
+            overflow = resumeOverflow;
+            if (number) {
+                numberStart = anchor;
+                numberEnd -= moved;
+            }
+
+            return JsonToken.NEED_MORE_INPUT;
+        } finally {
+            anchor = -1;
+        }
+    }
+
+    /**
+     * Get the current token
+     *
+     * @return the current token
+     */
+    JsonToken currentToken() {
+        return token;
+    }
+
+    /**
+     * Get the last read object key
+     *
+     * @return the last key
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Get the current token text. This
+     * is only valid for string and number
+     * tokens
+     *
+     * @return the token text
+     */
+    String getText() {
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return text(numberStart, numberEnd);
+        }
+
+        return text;
+    }
+
+    /**
+     * Get the current number token as
+     * a long
+     *
+     * @return the long value
+     * @throws KsonException if the number does
+     * not fit in a long
+     */
+    long getLong() throws KsonException {
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) return (long) getDouble();
+        if (overflow) throw new KsonException("Number " + getText() + " does not fit in a long");
+
+        return integer;
+    }
+
+    /**
+     * Get if the current number token is
+     * an integer which fits in a long. The value
+     * is accumulated while the number is read, so
+     * this never needs to parse the number again
+     *
+     * @return if the number fits in a long
+     */
+    boolean isLong() {
+        return token == JsonToken.VALUE_NUMBER_INT && !overflow;
+    }
+
+    /**
+     * Get the current number token as
+     * a double. The number is read straight
+     * from the window, and is always correctly
+     * rounded
+     *
+     * @return the double value
+     */
+    double getDouble() {
+        if (isLong()) return (double) integer;
+
+        int index = numberStart;
+        boolean negative = (unit(index) == '-');
+        if (negative) index++;
+
+        long significand = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean truncated = false;
+
+        int character;
+        while (index < numberEnd && (character = unit(index)) >= '0' && character <= '9') {
+            index++;
+            if (digits < 19) {
+                significand = significand * 10 + (character - '0');
+                if (significand != 0) digits++;
+            } else {
+                truncated |= (character != '0');
+                exponent++;
+            }
+        }
+
+        if (index < numberEnd && unit(index) == '.') {
+            index++;
+            while (index < numberEnd && (character = unit(index)) >= '0' && character <= '9') {
+                index++;
+                if (digits < 19) {
+                    significand = significand * 10 + (character - '0');
+                    if (significand != 0) digits++;
+                    exponent--;
+                } else {
+                    truncated |= (character != '0');
+                }
+            }
+        }
+
+        if (index < numberEnd) {
+            index++;
+
+            boolean negativeExponent = (unit(index) == '-');
+            if (negativeExponent || unit(index) == '+') index++;
+
+            int value = 0;
+            while (index < numberEnd) {
+                if (value < 100000) value = value * 10 + (unit(index) - '0');
+                index++;
+            }
+
+            exponent += (negativeExponent ? -value : value);
+        }
+
+        double result = DoubleParser.parse(significand, exponent, negative, truncated);
+        if (Double.isNaN(result)) return Double.parseDouble(getText());
+
+        return result;
+    }
+
+    /**
+     * Skip all the children of the current
+     * object or array, leaving the tokenizer at
+     * its closing token. The skipped bytes are
+     * only scanned for brackets and strings, so
+     * no value is ever built
+     */
+    void skipChildren() {
+        if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) return;
+
+        int level = 1;
+        while (true) {
+            if (position >= limit) {
+                mark = position;
+                if (!loadMore()) break;
+            }
+
+            int character = unit(position++);
+            if (character == '"') {
+                mark = position - 1;
+                findStringEnd();
+                continue;
+            }
+
+            if (character == '{' || character == '[') {
+                level++;
+            } else if ((character == '}' || character == ']') && --level == 0) {
+                tokenStart = position - 1;
+                token = endContext(character == '}' ? JsonToken.END_OBJECT : JsonToken.END_ARRAY);
+                return;
+            }
+        }
+
+        throw malformed(limit, "} or ]");
+    }
+
+    /**
+     * Skip the value of the last read key, leaving
+     * the tokenizer at the skipped value. Strings are
+     * only scanned for their end, and objects or arrays
+     * are {@link #skipChildren() skipped} whole, so the
+     * skipped value is never built nor can be read
+     */
+    void skipValue() {
+        if (state != STATE_OBJECT_VALUE) return;
+
+        int character = nextSignificant();
+        if (character != ':') throw malformed(tokenStart, ":");
+
+        character = nextSignificant();
+        if (character == '"') {
+            findStringEnd();
+            afterValue();
+
+            token = JsonToken.VALUE_STRING;
+            return;
+        }
+
+        token = readValue(character);
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) skipChildren();
+    }
+
+    /**
+     * Move the tokenizer to a single value of
+     * an already loaded json, so it can be read
+     * on its own. The tokenizer ends right after
+     * the value, so anything but whitespace after
+     * it is reported as malformed by the next token
+     *
+     * @param start the value start
+     * @param end the value end
+     */
+    void rewind(final int start, final int end) {
+        position = mark = tokenStart = start;
+        limit = end;
+        depth = 0;
+        state = STATE_ROOT;
+        token = null;
+    }
+
+    /**
+     * Move the tokenizer to a single object
+     * key of an already loaded json, so the next
+     * token reads it as a {@link JsonToken#FIELD_NAME field
+     * name}, sharing the key instance as the tree does
+     *
+     * @param start the key start
+     * @param end the key end
+     */
+    void rewindName(final int start, final int end) {
+        rewind(start, end);
+        state = STATE_OBJECT_FIRST;
+    }
+
+    /**
+     * Give the tokenizer buffers back to
+     * the {@link BufferRecycler recycler}, so the
+     * next tokenizer of the thread can use them. The
+     * tokenizer can't be used anymore after this
+     */
+    void release() {}
+
+    /**
+     * Prepare the tokenizer to read another
+     * json right after the current one, as in a
+     * stream of concatenated jsons. The window is
+     * kept, so nothing already read is lost
+     */
+    void nextDocument() {
+        depth = 0;
+        state = STATE_ROOT;
+        token = null;
+    }
+
+    /**
+     * Create a malformed json exception
+     * for the current token
+     *
+     * @param expected what was expected instead
+     *                 of the current token
+     * @return the exception
+     */
+    KsonException malformed(final String expected) {
+        return malformed(tokenStart, expected);
+    }
+
+    private JsonToken readValue(final int character) {
+        if (character == -1) throw malformed(tokenStart, "a value");
+
+        switch (character < TYPES.length ? TYPES[character] : TYPE_OTHER) {
+            case TYPE_STRUCTURE:
+                if (character == '{') {
+                    push(CONTEXT_OBJECT);
+                    state = STATE_OBJECT_FIRST;
+                    return JsonToken.START_OBJECT;
+                }
+                if (character == '[') {
+                    push(CONTEXT_ARRAY);
+                    state = STATE_ARRAY_FIRST;
+                    return JsonToken.START_ARRAY;
+                }
+                break;
+            case TYPE_QUOTE:
+                text = readString();
+                afterValue();
+                return JsonToken.VALUE_STRING;
+            case TYPE_NUMBER:
+                return readNumber(character);
+            case TYPE_LITERAL:
+                if (character == 't') return readLiteral(TRUE, JsonToken.VALUE_TRUE);
+                if (character == 'f') return readLiteral(FALSE, JsonToken.VALUE_FALSE);
+                return readLiteral(NULL, JsonToken.VALUE_NULL);
+            default:
+                break;
+        }
+
+        throw malformed(tokenStart, "a value");
+    }
+
+    private JsonToken readName(final int character) {
+        if (character != '"') throw malformed(tokenStart, "\"");
+
+        int end = findStringEnd();
+        name = (escaped ? unescape(tokenStart + 1, end) : name(tokenStart + 1, end));
+        state = STATE_OBJECT_VALUE;
+        return JsonToken.FIELD_NAME;
+    }
+
+    private String readString() {
+        int end = findStringEnd();
+        return (escaped ? unescape(tokenStart + 1, end) : text(tokenStart + 1, end));
+    }
+
+    /**
+     * Build a string out of a window range
+     * holding escape sequences. The text between
+     * the escapes is copied as it is
+     *
+     * @param start the range start
+     * @param end the range end (exclusive)
+     * @return the unescaped string
+     * @throws KsonException if an escape is malformed
+     */
+    private String unescape(final int start, final int end) throws KsonException {
+        StringBuilder builder = scratch;
+        if (builder == null) builder = scratch = new StringBuilder(end - start);
+        builder.setLength(0);
+
+        int segment = start;
+        int index = start;
+        while (index < end) {
+            if (unit(index) != '\\') {
+                index++;
+                continue;
+            }
+
+            if (index > segment) append(builder, segment, index);
+
+            int escape = unit(++index);
+            switch (escape) {
+                case '"':
+                case '\\':
+                case '/':
+                    builder.append((char) escape);
+                    break;
+                case 'b':
+                    builder.append('\b');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'u':
+                    int value = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = (index + 1 < end ? hex(unit(index + 1)) : -1);
+                        if (digit == -1) throw malformed(index + 1, "a hex digit");
+
+                        value = (value << 4) | digit;
+                        index++;
+                    }
+
+                    builder.append((char) value);
+                    break;
+                default:
+                    throw malformed(index, "an escape");
+            }
+
+            segment = ++index;
+        }
+
+        if (segment < end) append(builder, segment, end);
+        return builder.toString();
+    }
+
+    private static int hex(final int character) {
+        if (character >= '0' && character <= '9') return character - '0';
+        if (character >= 'a' && character <= 'f') return character - 'a' + 10;
+        if (character >= 'A' && character <= 'F') return character - 'A' + 10;
+
+        return -1;
+    }
+
+    private JsonToken readNumber(final int first) {
+        boolean floating = false;
+
+        int character = first;
+        if (character == '-') {
+            character = peek();
+            if (character != -1) position++;
+        }
+
+        integer = 0;
+        overflow = false;
+        if (character != '0') {
+            if (character < '1' || character > '9') throw malformed(character == -1 ? position : position - 1, "a digit");
+            accumulateDigits(character, first == '-');
+        }
+
+        int next = peek();
+        if (next == '.') {
+            floating = true;
+            position++;
+
+            requireDigits();
+            next = peek();
+        }
+
+        if (next == 'e' || next == 'E') {
+            floating = true;
+            position++;
+
+            next = peek();
+            if (next == '+' || next == '-') position++;
+            requireDigits();
+        }
+
+        numberStart = tokenStart;
+        numberEnd = position;
+        afterValue();
+
+        return floating ? JsonToken.VALUE_NUMBER_FLOAT : JsonToken.VALUE_NUMBER_INT;
+    }
+
+    /**
+     * Read the integer part of a number, accumulating
+     * its value as it goes. The value is accumulated
+     * as a negative number, as {@link Long#MIN_VALUE} has no
+     * positive counterpart, and every step is checked
+     * for overflow before it happens
+     *
+     * @param first the first digit, already consumed
+     * @param negative if the number is negative
+     */
+    private void accumulateDigits(final int first, final boolean negative) {
+        long value = -(first - '0');
+
+        int character;
+        while ((character = peek()) >= '0' && character <= '9') {
+            position++;
+
+            int digit = character - '0';
+            if (value < Long.MIN_VALUE / 10 || (value == Long.MIN_VALUE / 10 && digit > 8)) {
+                overflow = true;
+                skipDigits();
+                return;
+            }
+
+            value = value * 10 - digit;
+        }
+
+        if (!negative) {
+            if (value == Long.MIN_VALUE) {
+                overflow = true;
+                return;
+            }
+
+            value = -value;
+        }
+
+        integer = value;
+    }
+
+    private int skipDigits() {
+        int count = 0;
+        int character;
+        while ((character = peek()) >= '0' && character <= '9') {
+            position++;
+            count++;
+        }
+
+        return count;
+    }
+
+    private void requireDigits() {
+        if (skipDigits() == 0) throw malformed(position, "a digit");
+    }
+
+    private JsonToken readLiteral(final byte[] literal, final JsonToken result) {
+        for (int i = 1; i < literal.length; i++) {
+            if (peek() != literal[i]) throw malformed(position, new String(literal, StandardCharsets.US_ASCII));
+            position++;
+        }
+
+        afterValue();
+        return result;
+    }
+
+    private JsonToken endContext(final JsonToken result) {
+        depth--;
+        afterValue();
+        return result;
+    }
+
+    private void afterValue() {
+        if (depth == 0) {
+            state = STATE_DONE;
+            return;
+        }
+
+        state = (contexts[depth - 1] == CONTEXT_OBJECT ? STATE_OBJECT_NEXT : STATE_ARRAY_NEXT);
+    }
+
+    private void push(final byte context) {
+        if (depth == contexts.length) {
+            byte[] grown = new byte[depth << 1];
+            System.arraycopy(contexts, 0, grown, 0, depth);
+            contexts = grown;
+        }
+
+        contexts[depth++] = context;
+    }
+
+    private int nextSignificant() {
+        while (true) {
+            if (position >= limit) {
+                mark = position;
+                if (!loadMore()) {
+                    tokenStart = position;
+                    return -1;
+                }
+            }
+
+            int character = unit(position++);
+            if (character >= TYPES.length || TYPES[character] != TYPE_SPACE) {
+                tokenStart = mark = position - 1;
+                return character;
+            }
+        }
+    }
+
+    private int peek() {
+        if (position >= limit && !loadMore()) return -1;
+        return unit(position);
+    }
+
+    /**
+     * Pull more data from the source. Everything
+     * before the {@link #mark} is discarded to make
+     * room, so the token being read is always kept
+     * whole inside the window. When a token is being
+     * {@link #tryNextToken() tried}, its start is kept too
+     *
+     * @return if more data was read
+     */
+    protected final boolean loadMore() {
+        if (exhausted) return false;
+
+        int discard = (anchor != -1 && anchor < mark ? anchor : mark);
+        if (discard > 0) {
+            shift(discard);
+
+            discarded += discard;
+            limit -= discard;
+            position -= discard;
+            tokenStart -= discard;
+            mark -= discard;
+            if (anchor != -1) anchor -= discard;
+        }
+
+        try {
+            int read = fill();
+            if (read == -1) {
+                exhausted = true;
+                return false;
+            }
+
+            limit += read;
+            return true;
+        } catch (IOException ex) {
+            throw new KsonException(ex);
+        }
+    }
+
+    /**
+     * Get the unit at the specified
+     * window index
+     *
+     * @param index the window index
+     * @return the unsigned unit value
+     */
+    protected abstract int unit(final int index);
+
+    /**
+     * Find the closing quote of the string
+     * being read, leaving the cursor right
+     * after it. Implementations must also tell
+     * if the string holds any {@link #escaped escape}
+     *
+     * @return the window index of the closing quote
+     * @throws KsonException if the string is not closed
+     */
+    protected abstract int findStringEnd() throws KsonException;
+
+    /**
+     * Build a string out of a window range
+     *
+     * @param start the range start
+     * @param end the range end (exclusive)
+     * @return the string
+     */
+    protected abstract String text(final int start, final int end);
+
+    /**
+     * Append a window range, which holds
+     * no escape sequences, to a string
+     *
+     * @param builder the string to append to
+     * @param start the range start
+     * @param end the range end (exclusive)
+     */
+    protected void append(final StringBuilder builder, final int start, final int end) {
+        builder.append(text(start, end));
+    }
+
+    /**
+     * Build an object key out of a window
+     * range. Keys repeat a lot, so implementations
+     * may hand out the same instance for the same key
+     *
+     * @param start the range start
+     * @param end the range end (exclusive)
+     * @return the key
+     */
+    protected String name(final int start, final int end) {
+        return text(start, end);
+    }
+
+    /**
+     * Discard the first units of the window,
+     * moving the rest to its start
+     *
+     * @param offset the amount of units to discard
+     */
+    protected abstract void shift(final int offset);
+
+    /**
+     * Read more data from the source into the
+     * window, after the current {@link #limit}. The
+     * window must be grown if it is full
+     *
+     * @return the amount of units read, or -1
+     * if the source has no more data
+     * @throws IOException if the source fails to read
+     * @throws NeedMoreInput if the source has no data
+     * yet, but may have more later
+     */
+    protected abstract int fill() throws IOException, NeedMoreInput;
+
+    /**
+     * Create a malformed json exception
+     *
+     * @param index the window index in where
+     *              the json is malformed
+     * @param expected what was expected at
+     *                 that index
+     * @return the exception
+     */
+    protected final KsonException malformed(final int index, final String expected) {
+        String got = (index < limit ? String.valueOf((char) unit(index)) : "end of json");
+        return new KsonException("Malformed json at index " + (discarded + index) + ". Expected " + expected + " but got " + got);
+    }
+}
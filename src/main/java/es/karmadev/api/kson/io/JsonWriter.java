@@ -1,10 +1,14 @@
 package es.karmadev.api.kson.io;
 
 import es.karmadev.api.kson.*;
+import es.karmadev.api.kson.object.type.NativeNumber;
 import lombok.NonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.function.Consumer;
 
@@ -16,8 +20,30 @@ import java.util.function.Consumer;
  */
 public final class JsonWriter {
 
+    /**
+     * The escaped form of every ascii character
+     * which must be escaped in a json string, or null
+     * for the characters which are written as they are
+     */
+    private final static String[] ESCAPES = new String[128];
+
+    static {
+        char[] hex = "0123456789abcdef".toCharArray();
+        for (int i = 0; i < 0x20; i++) {
+            ESCAPES[i] = "\\u00" + hex[i >> 4] + hex[i & 0xF];
+        }
+
+        ESCAPES['"'] = "\\\"";
+        ESCAPES['\\'] = "\\\\";
+        ESCAPES['\b'] = "\\b";
+        ESCAPES['\f'] = "\\f";
+        ESCAPES['\n'] = "\\n";
+        ESCAPES['\r'] = "\\r";
+        ESCAPES['\t'] = "\\t";
+    }
+
     private final JsonInstance instance;
-    private boolean prettyPrinting = false;
+    private PrettyPrinter printer = null;
     private int indentation = 0;
 
     /**
@@ -45,12 +71,24 @@ public final class JsonWriter {
      * @param prettyPrinting the pretty print support
      */
     public void setPrettyPrinting(final boolean prettyPrinting) {
-        this.prettyPrinting = prettyPrinting;
+        this.printer = (prettyPrinting ? PrettyPrinter.tabs() : null);
+    }
+
+    /**
+     * Set the writer pretty printer, which
+     * decides the indentation and line separator
+     * of the written json
+     *
+     * @param printer the pretty printer, or null
+     *                to disable pretty printing
+     */
+    public void setPrettyPrinter(final PrettyPrinter printer) {
+        this.printer = printer;
     }
 
     /**
      * Set the indentation level. Only works when
-     * {@link #prettyPrinting pretty printing} is true
+     * {@link #printer pretty printing} is enabled
      *
      * @param indentation the new indentation level
      */
@@ -68,17 +106,121 @@ public final class JsonWriter {
      */
     public void export(final Writer writer) throws AssertionError, KsonException {
         try {
-            if (instance instanceof JsonObject) {
-                writeJsonObjectToWriter(writer);
-            } else if (instance instanceof JsonArray) {
-                writeJsonArrayToWriter(writer);
-            } else if (instance instanceof JsonNative) {
-                writeJsonNativeToWriter(writer);
-            } else {
-                throw new AssertionError("Cannot write unknown json type");
-            }
+            write(writer);
+        } catch (IOException ex) {
+            throw new KsonException(ex);
+        }
+    }
+
+    /**
+     * Write the element into the stream, encoded
+     * as utf-8. The element is encoded straight into
+     * bytes, without going through a charset encoder.
+     * The stream is neither flushed nor closed
+     *
+     * @param stream the stream
+     * @throws AssertionError if the instance type is unknown
+     * @throws KsonException if the stream fails
+     */
+    public void export(final OutputStream stream) throws AssertionError, KsonException {
+        Utf8Writer writer = new Utf8Writer(stream);
+        try {
+            write(writer);
+            writer.flush();
+        } catch (IOException ex) {
+            throw new KsonException(ex);
+        } finally {
+            writer.release();
+        }
+    }
+
+    /**
+     * Write the element into the buffer, encoded
+     * as utf-8, starting at the buffer position. The
+     * buffer position is moved to the end of the written
+     * element. If the element does not fit, the buffer
+     * position is moved back to where it was, but the
+     * contents after it are unspecified
+     *
+     * @param buffer the buffer
+     * @throws AssertionError if the instance type is unknown
+     * @throws KsonException if the element does not fit
+     * in the buffer
+     */
+    public void export(final ByteBuffer buffer) throws AssertionError, KsonException {
+        int start = buffer.position();
+        Utf8Writer writer = new Utf8Writer(buffer);
+        try {
+            write(writer);
+            writer.flush();
         } catch (IOException ex) {
             throw new KsonException(ex);
+        } catch (BufferOverflowException ex) {
+            buffer.position(start);
+            throw new KsonException("The json does not fit in the buffer", ex);
+        } finally {
+            writer.release();
+        }
+    }
+
+    /**
+     * Get the exact number of bytes the element
+     * takes once written as utf-8. The element is
+     * walked once, as when it's written, but nothing
+     * is written
+     *
+     * @return the element utf-8 length
+     * @throws AssertionError if the instance type is unknown
+     * @throws KsonException if the element fails to write
+     */
+    public long serializedSize() throws AssertionError, KsonException {
+        Utf8Counter counter = new Utf8Counter();
+        try {
+            write(counter);
+        } catch (IOException ex) {
+            throw new KsonException(ex);
+        }
+
+        return counter.getCount();
+    }
+
+    /**
+     * Write the element into a byte array, encoded
+     * as utf-8. The array is allocated once, with the
+     * {@link #serializedSize() exact size} of the element
+     *
+     * @return the written element
+     * @throws AssertionError if the instance type is unknown
+     * @throws KsonException if the element is too big
+     * for an array
+     */
+    public byte[] toByteArray() throws AssertionError, KsonException {
+        long size = serializedSize();
+        if (size > Integer.MAX_VALUE - 8) throw new KsonException("The json is too big for a byte array (" + size + " bytes)");
+
+        byte[] data = new byte[(int) size];
+        export(ByteBuffer.wrap(data));
+
+        return data;
+    }
+
+    /**
+     * Write the element into a string. The
+     * element is written into a builder which is
+     * reused by the next export of the same thread
+     *
+     * @return the written element
+     * @throws AssertionError if the instance type is unknown
+     * @throws KsonException if the element fails to write
+     */
+    public String export() throws AssertionError, KsonException {
+        BufferRecycler recycler = BufferRecycler.get();
+        StringBuilder builder = recycler.takeBuilder();
+        try {
+            export(new BuilderWriter(builder));
+            return builder.toString();
+        } finally {
+            recycler.giveBuilder(builder);
         }
     }
 
@@ -147,95 +289,197 @@ public final class JsonWriter {
         }
     }
 
-    private void writeJsonObjectToWriter(final Writer writer) throws IOException {
-        JsonObject object = (JsonObject) instance;
-        String indentation = buildIndentation();
+    private void write(final Writer writer) throws IOException {
+        if (printer == null) {
+            writeCompact(writer, instance);
+        } else {
+            writePretty(writer, instance, indentation);
+        }
+    }
 
-        writer.write("{");
-        if (prettyPrinting) {
-            writer.write("\n");
+    private static void writeCompact(final Writer writer, final JsonInstance element) throws IOException {
+        if (element instanceof JsonObject) {
+            writeCompactObject(writer, (JsonObject) element);
+        } else if (element instanceof JsonArray) {
+            writeCompactArray(writer, (JsonArray) element);
+        } else if (element instanceof JsonNative) {
+            writeNative(writer, (JsonNative) element);
+        } else {
+            throw new AssertionError("Cannot write unknown json type");
         }
+    }
 
-        int index = 0;
-        Collection<String> keys = object.getKeys(false);
-        for (String key : keys) {
-            JsonInstance instance = object.getChild(key);
-            if (instance.isNull()) {
-                index++;
-                continue;
-            }
+    private static void writeCompactObject(final Writer writer, final JsonObject object) throws IOException {
+        writer.write('{');
 
-            String value = instance.toString(this.prettyPrinting, this.indentation + 1);
-            if (this.prettyPrinting) {
-                writer.write(indentation + '\t');
-            }
+        boolean first = true;
+        for (String key : object.getKeys(false)) {
+            JsonInstance child = object.getChild(key);
+            if (child.isNull()) continue;
 
-            writer.write(String.format("\"%s\":%s%s", key, (prettyPrinting ? " " : ""), value));
-            if (index++ < keys.size() - 1) {
-                writer.write(",");
-            }
+            if (!first) writer.write(',');
+            first = false;
 
-            if (prettyPrinting) {
-                writer.write("\n");
-            }
+            writeString(writer, key);
+            writer.write(':');
+            writeCompact(writer, child);
         }
 
-        writer.write(indentation);
-        writer.write("}");
+        writer.write('}');
     }
 
-    private void writeJsonArrayToWriter(final Writer writer) throws IOException {
-        JsonArray array = (JsonArray) instance;
-        String indentation = buildIndentation();
+    private static void writeCompactArray(final Writer writer, final JsonArray array) throws IOException {
+        writer.write('[');
+
+        boolean first = true;
+        for (JsonInstance child : array) {
+            if (child == null || child.isNull()) continue;
 
-        writer.write("[");
-        if (prettyPrinting) {
-            writer.write("\n");
+            if (!first) writer.write(',');
+            first = false;
+
+            writeCompact(writer, child);
         }
 
-        int index = 0;
-        for (JsonInstance instance : array) {
-            if (instance == null || instance.isNull()) continue;
+        writer.write(']');
+    }
 
-            String value = instance.toString(this.prettyPrinting, this.indentation + 1);
-            if (this.prettyPrinting) {
-                writer.write(indentation + '\t');
-            }
+    private void writePretty(final Writer writer, final JsonInstance element, final int level) throws IOException {
+        if (element instanceof JsonObject) {
+            writePrettyObject(writer, (JsonObject) element, level);
+        } else if (element instanceof JsonArray) {
+            writePrettyArray(writer, (JsonArray) element, level);
+        } else if (element instanceof JsonNative) {
+            writeNative(writer, (JsonNative) element);
+        } else {
+            throw new AssertionError("Cannot write unknown json type");
+        }
+    }
+
+    private void writePrettyObject(final Writer writer, final JsonObject object, final int level) throws IOException {
+        String lineSeparator = printer.getLineSeparator();
+        String childIndentation = printer.getIndentation(level + 1);
+
+        writer.write('{');
+        writer.write(lineSeparator);
 
-            writer.write(value);
-            if (++index < array.size()) {
-                writer.write(",");
+        boolean first = true;
+        for (String key : object.getKeys(false)) {
+            JsonInstance child = object.getChild(key);
+            if (child.isNull()) continue;
+
+            if (!first) {
+                writer.write(',');
+                writer.write(lineSeparator);
             }
+            first = false;
+
+            writer.write(childIndentation);
+            writeString(writer, key);
+            writer.write(": ");
+
+            writePretty(writer, child, level + 1);
+        }
+
+        if (!first) writer.write(lineSeparator);
+
+        writer.write(printer.getIndentation(level));
+        writer.write('}');
+    }
+
+    private void writePrettyArray(final Writer writer, final JsonArray array, final int level) throws IOException {
+        String lineSeparator = printer.getLineSeparator();
+        String childIndentation = printer.getIndentation(level + 1);
+
+        writer.write('[');
+        writer.write(lineSeparator);
+
+        boolean first = true;
+        for (JsonInstance child : array) {
+            if (child == null || child.isNull()) continue;
 
-            if (prettyPrinting) {
-                writer.write("\n");
+            if (!first) {
+                writer.write(',');
+                writer.write(lineSeparator);
             }
+            first = false;
+
+            writer.write(childIndentation);
+            writePretty(writer, child, level + 1);
         }
 
-        writer.write(indentation);
-        writer.write("]");
+        if (!first) writer.write(lineSeparator);
+
+        writer.write(printer.getIndentation(level));
+        writer.write(']');
     }
 
-    private void writeJsonNativeToWriter(final Writer writer) throws IOException {
-        JsonNative nat = (JsonNative) instance;
+    private static void writeNative(final Writer writer, final JsonNative nat) throws IOException {
         if (nat.isNull()) {
             writer.write("null");
         } else if (nat.isString()) {
-            writer.write(String.format("\"%s\"", nat.getString()));
+            writeString(writer, nat.getString());
         } else if (nat.isNumber()) {
-            writer.write(String.valueOf(nat.getNumber()));
+            writeNumber(writer, nat);
         } else {
-            writer.write(String.valueOf(nat.getBoolean()));
+            writer.write(nat.getBoolean() ? "true" : "false");
         }
     }
 
-    private String buildIndentation() {
-        if (!prettyPrinting || indentation <= 0) return "";
-        StringBuilder builder = new StringBuilder();
-        for (int i = 0; i < indentation; i++) {
-            builder.append('\t');
+    /**
+     * Write a number. Integers and doubles
+     * are formatted without creating a string,
+     * while lazy numbers are written as they were
+     * read, and the rest of numbers as their text
+     *
+     * @param writer the writer
+     * @param nat the number to write
+     * @throws IOException if the writer fails
+     */
+    private static void writeNumber(final Writer writer, final JsonNative nat) throws IOException {
+        if (!(nat instanceof NativeNumber)) {
+            writer.write(nat.getAsString());
+            return;
+        }
+
+        Number number = nat.getNumber();
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            NumberWriter.writeLong(writer, number.longValue(), BufferRecycler.get().digits());
+        } else if (number instanceof Double) {
+            NumberWriter.writeDouble(writer, number.doubleValue(), BufferRecycler.get().digits());
+        } else {
+            writer.write(nat.getAsString());
+        }
+    }
+
+    /**
+     * Write a quoted string, escaping the quotes,
+     * backslashes and control characters. The text
+     * between the characters to escape is written
+     * as a whole, so only the characters found in the
+     * {@link #ESCAPES escape table} slow the write down
+     *
+     * @param writer the writer
+     * @param value the string to write
+     * @throws IOException if the writer fails
+     */
+    private static void writeString(final Writer writer, final String value) throws IOException {
+        writer.write('"');
+
+        String[] escapes = ESCAPES;
+        int run = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char character = value.charAt(i);
+            if (character >= escapes.length || escapes[character] == null) continue;
+
+            if (i > run) writer.write(value, run, i - run);
+            run = i + 1;
+
+            writer.write(escapes[character]);
         }
 
-        return builder.toString();
+        if (length > run) writer.write(value, run, length - run);
+        writer.write('"');
     }
 }
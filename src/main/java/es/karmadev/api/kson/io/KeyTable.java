@@ -0,0 +1,115 @@
+package es.karmadev.api.kson.io;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Represents a table of object keys. Keys
+ * repeat a lot between objects with the same
+ * schema, so the table keeps the last key seen
+ * at each slot, and hands the same instance out
+ * every time the same key is read again. The
+ * table has a fixed amount of slots, so it never
+ * grows, and a colliding key just replaces the
+ * previous one. The table is shared between all
+ * the parsers, and is safe to use from many threads
+ */
+final class KeyTable {
+
+    /**
+     * The table shared by all
+     * the tokenizers
+     */
+    final static KeyTable SHARED = new KeyTable(4096);
+
+    /**
+     * The longest key which is
+     * stored in the table
+     */
+    private final static int MAX_LENGTH = 64;
+
+    private final AtomicReferenceArray<String> slots;
+    private final int mask;
+
+    /**
+     * Initialize the key table
+     *
+     * @param size the amount of slots, must
+     *             be a power of two
+     */
+    KeyTable(final int size) {
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Get the key held by a byte range. Only
+     * plain ascii keys are stored in the table
+     *
+     * @param data the bytes
+     * @param start the range start
+     * @param end the range end (exclusive)
+     * @return the key, or null if the key can't
+     * be stored in the table
+     */
+    String get(final byte[] data, final int start, final int end) {
+        int length = end - start;
+        if (length > MAX_LENGTH) return null;
+
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            byte character = data[i];
+            if (character < 0 || character == '\\') return null;
+
+            hash = 31 * hash + character;
+        }
+
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        String key = slots.get(slot);
+        if (key != null && key.length() == length && key.hashCode() == hash) {
+            int index = 0;
+            while (index < length && key.charAt(index) == data[start + index]) index++;
+            if (index == length) return key;
+        }
+
+        key = new String(data, start, length, StandardCharsets.US_ASCII);
+        slots.lazySet(slot, key);
+
+        return key;
+    }
+
+    /**
+     * Get the key held by a char range
+     *
+     * @param data the chars
+     * @param start the range start
+     * @param end the range end (exclusive)
+     * @return the key, or null if the key can't
+     * be stored in the table
+     */
+    String get(final char[] data, final int start, final int end) {
+        int length = end - start;
+        if (length > MAX_LENGTH) return null;
+
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            char character = data[i];
+            if (character == '\\') return null;
+
+            hash = 31 * hash + character;
+        }
+
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        String key = slots.get(slot);
+        if (key != null && key.length() == length && key.hashCode() == hash) {
+            int index = 0;
+            while (index < length && key.charAt(index) == data[start + index]) index++;
+            if (index == length) return key;
+        }
+
+        key = new String(data, start, length);
+        slots.lazySet(slot, key);
+
+        return key;
+    }
+}
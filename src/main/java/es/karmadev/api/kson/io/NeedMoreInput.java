@@ -0,0 +1,22 @@
+package es.karmadev.api.kson.io;
+
+/**
+ * Represents the signal a fed tokenizer
+ * raises when it runs out of data in the middle
+ * of a token, while more data may still be fed.
+ * The signal never leaves the io package, and it's
+ * always the same instance, so raising it costs nothing
+ */
+final class NeedMoreInput extends RuntimeException {
+
+    private final static long serialVersionUID = 1L;
+
+    /**
+     * The signal instance
+     */
+    final static NeedMoreInput INSTANCE = new NeedMoreInput();
+
+    private NeedMoreInput() {
+        super(null, null, false, false);
+    }
+}
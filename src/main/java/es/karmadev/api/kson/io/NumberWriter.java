@@ -0,0 +1,313 @@
+package es.karmadev.api.kson.io;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigInteger;
+
+/**
+ * Represents the number writer. Numbers are
+ * formatted straight into a scratch buffer, and
+ * then written as a whole, without creating a string
+ * for each of them. Doubles are written with the
+ * shortest digits which read back as the same double,
+ * found with the Schubfach algorithm, and laid out
+ * as {@link Double#toString(double)} does
+ */
+final class NumberWriter {
+
+    /**
+     * The longest text of a number, which is
+     * the length the scratch buffer must have
+     */
+    final static int MAX_LENGTH = 32;
+
+    private final static int K_MIN = -324;
+    private final static int K_MAX = 292;
+
+    private final static int Q_MIN = -1074;
+    private final static int PRECISION = 53;
+    private final static long C_MIN = 1L << (PRECISION - 1);
+    private final static int C_TINY = 3;
+    private final static long MASK_63 = (1L << 63) - 1;
+
+    /**
+     * The 126 most significant bits of each
+     * power of ten, rounded up, stored as the
+     * high and low 63 bits one after the other
+     */
+    private final static long[] POWERS = new long[(K_MAX - K_MIN + 1) * 2];
+
+    private final static long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        for (int k = K_MIN; k <= K_MAX; k++) {
+            int exponent = -k;
+            int shift = floorLog2Pow10(exponent) - 125;
+
+            BigInteger value;
+            if (exponent >= 0) {
+                value = BigInteger.TEN.pow(exponent);
+                value = (shift >= 0 ? value.shiftRight(shift) : value.shiftLeft(-shift));
+            } else {
+                value = BigInteger.ONE.shiftLeft(-shift).divide(BigInteger.TEN.pow(-exponent));
+            }
+            value = value.add(BigInteger.ONE);
+
+            int index = (k - K_MIN) << 1;
+            POWERS[index] = value.shiftRight(63).longValue();
+            POWERS[index + 1] = value.longValue() & MASK_63;
+        }
+
+        long power = 1;
+        for (int i = 0; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = power;
+            power *= 10;
+        }
+    }
+
+    private NumberWriter() {}
+
+    /**
+     * Write a long
+     *
+     * @param writer the writer
+     * @param value the value to write
+     * @param chars the scratch buffer
+     * @throws IOException if the writer fails
+     */
+    static void writeLong(final Writer writer, final long value, final char[] chars) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writer.write("-9223372036854775808");
+            return;
+        }
+
+        long remaining = Math.abs(value);
+        int index = MAX_LENGTH;
+        while (remaining > Integer.MAX_VALUE) {
+            long quotient = remaining / 10;
+            chars[--index] = (char) ('0' + (remaining - quotient * 10));
+            remaining = quotient;
+        }
+
+        int small = (int) remaining;
+        do {
+            int quotient = small / 10;
+            chars[--index] = (char) ('0' + (small - quotient * 10));
+            small = quotient;
+        } while (small != 0);
+
+        if (value < 0) chars[--index] = '-';
+        writer.write(chars, index, MAX_LENGTH - index);
+    }
+
+    /**
+     * Write a double
+     *
+     * @param writer the writer
+     * @param value the value to write
+     * @param chars the scratch buffer
+     * @throws IOException if the writer fails
+     */
+    static void writeDouble(final Writer writer, final double value, final char[] chars) throws IOException {
+        long bits = Double.doubleToRawLongBits(value);
+        long fraction = bits & (C_MIN - 1);
+        int biasedExponent = (int) (bits >>> (PRECISION - 1)) & 0x7FF;
+
+        if (biasedExponent == 0x7FF) {
+            writer.write(fraction != 0 ? "NaN" : (bits > 0 ? "Infinity" : "-Infinity"));
+            return;
+        }
+        if (biasedExponent == 0 && fraction == 0) {
+            writer.write(bits == 0 ? "0.0" : "-0.0");
+            return;
+        }
+
+        int start = 0;
+        if (bits < 0) chars[start++] = '-';
+
+        int end;
+        if (biasedExponent != 0) {
+            int shift = -Q_MIN + 1 - biasedExponent;
+            long significand = C_MIN | fraction;
+
+            long integer = (shift > 0 && shift < PRECISION ? significand >> shift : 0);
+            if (integer != 0 && integer << shift == significand) {
+                end = format(chars, start, integer, 0);
+            } else {
+                end = shortest(chars, start, -shift, significand, 0);
+            }
+        } else if (fraction < C_TINY) {
+            end = shortest(chars, start, Q_MIN, 10 * fraction, -1);
+        } else {
+            end = shortest(chars, start, Q_MIN, fraction, 0);
+        }
+
+        writer.write(chars, 0, end);
+    }
+
+    /**
+     * Find the shortest decimal which reads back
+     * as the double {@code significand * 2^exponent},
+     * and format it
+     *
+     * @param chars the scratch buffer
+     * @param start the index to format the decimal at
+     * @param exponent the binary exponent
+     * @param significand the binary significand
+     * @param correction the correction of the decimal
+     *                   exponent, for the tiniest subnormals
+     * @return the end of the formatted decimal
+     */
+    private static int shortest(final char[] chars, final int start, final int exponent, final long significand, final int correction) {
+        int odd = (int) significand & 1;
+        long center = significand << 2;
+        long right = center + 2;
+
+        long left;
+        int k;
+        if (significand != C_MIN || exponent == Q_MIN) {
+            left = center - 2;
+            k = floorLog10Pow2(exponent);
+        } else {
+            left = center - 1;
+            k = floorLog10ThreeQuartersPow2(exponent);
+        }
+        int shift = exponent + floorLog2Pow10(-k) + 2;
+
+        int index = (k - K_MIN) << 1;
+        long high = POWERS[index];
+        long low = POWERS[index + 1];
+
+        long scaled = roundToOdd(high, low, center << shift);
+        long scaledLeft = roundToOdd(high, low, left << shift);
+        long scaledRight = roundToOdd(high, low, right << shift);
+
+        long lower = scaled >> 2;
+        if (lower >= 100) {
+            long lowerTen = 10 * DoubleParser.multiplyHigh(lower, 115_292_150_460_684_698L << 4);
+            long upperTen = lowerTen + 10;
+
+            boolean lowerIn = scaledLeft + odd <= lowerTen << 2;
+            boolean upperIn = (upperTen << 2) + odd <= scaledRight;
+            if (lowerIn != upperIn) {
+                return format(chars, start, lowerIn ? lowerTen : upperTen, k);
+            }
+        }
+
+        long upper = lower + 1;
+        boolean lowerIn = scaledLeft + odd <= lower << 2;
+        boolean upperIn = (upper << 2) + odd <= scaledRight;
+        if (lowerIn != upperIn) {
+            return format(chars, start, lowerIn ? lower : upper, k + correction);
+        }
+
+        long compare = scaled - ((lower + upper) << 1);
+        boolean even = compare < 0 || (compare == 0 && (lower & 1) == 0);
+        return format(chars, start, even ? lower : upper, k + correction);
+    }
+
+    /**
+     * Format the decimal {@code digits * 10^exponent}
+     * as {@link Double#toString(double)} does, with plain
+     * notation from 10^-3 to 10^7, and scientific notation
+     * otherwise
+     *
+     * @param chars the scratch buffer
+     * @param start the index to format the decimal at
+     * @param digits the decimal digits
+     * @param exponent the decimal exponent
+     * @return the end of the formatted decimal
+     */
+    private static int format(final char[] chars, final int start, long digits, int exponent) {
+        while (digits % 10 == 0) {
+            digits /= 10;
+            exponent++;
+        }
+
+        int length = 1;
+        while (length < POWERS_OF_TEN.length && digits >= POWERS_OF_TEN[length]) length++;
+        int point = exponent + length;
+
+        if (point > 0 && point <= 7) {
+            if (length <= point) {
+                int end = fill(chars, start, digits, length);
+                for (int i = length; i < point; i++) chars[end++] = '0';
+
+                chars[end++] = '.';
+                chars[end++] = '0';
+                return end;
+            }
+
+            int end = fill(chars, start + 1, digits, length);
+            System.arraycopy(chars, start + 1, chars, start, point);
+            chars[start + point] = '.';
+            return end;
+        }
+
+        if (point > -3 && point <= 0) {
+            int index = start;
+            chars[index++] = '0';
+            chars[index++] = '.';
+            for (int i = point; i < 0; i++) chars[index++] = '0';
+
+            return fill(chars, index, digits, length);
+        }
+
+        int end = fill(chars, start + 1, digits, length);
+        chars[start] = chars[start + 1];
+        chars[start + 1] = '.';
+        if (length == 1) chars[end++] = '0';
+
+        chars[end++] = 'E';
+        int power = point - 1;
+        if (power < 0) {
+            chars[end++] = '-';
+            power = -power;
+        }
+        if (power >= 100) chars[end++] = (char) ('0' + power / 100);
+        if (power >= 10) chars[end++] = (char) ('0' + (power / 10) % 10);
+        chars[end++] = (char) ('0' + power % 10);
+
+        return end;
+    }
+
+    /**
+     * Fill the digits of a decimal
+     *
+     * @param chars the scratch buffer
+     * @param start the index of the first digit
+     * @param digits the decimal digits
+     * @param length the number of digits
+     * @return the end of the digits
+     */
+    private static int fill(final char[] chars, final int start, long digits, final int length) {
+        int end = start + length;
+        for (int i = end - 1; i >= start; i--) {
+            long quotient = digits / 10;
+            chars[i] = (char) ('0' + (digits - quotient * 10));
+            digits = quotient;
+        }
+
+        return end;
+    }
+
+    private static long roundToOdd(final long high, final long low, final long value) {
+        long lowProduct = DoubleParser.multiplyHigh(low, value);
+        long middle = ((high * value) >>> 1) + lowProduct;
+        long highProduct = DoubleParser.multiplyHigh(high, value) + (middle >>> 63);
+
+        return highProduct | (((middle & MASK_63) + MASK_63) >>> 63);
+    }
+
+    private static int floorLog10Pow2(final int exponent) {
+        return (int) (exponent * 661_971_961_083L >> 41);
+    }
+
+    private static int floorLog10ThreeQuartersPow2(final int exponent) {
+        return (int) (exponent * 661_971_961_083L - 274_743_187_321L >> 41);
+    }
+
+    private static int floorLog2Pow10(final int exponent) {
+        return (int) (exponent * 913_124_641_741L >> 38);
+    }
+}
@@ -0,0 +1,185 @@
+package es.karmadev.api.kson.io;
+
+import es.karmadev.api.kson.JsonArray;
+import es.karmadev.api.kson.JsonInstance;
+import es.karmadev.api.kson.KsonException;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Represents a task which parses the elements
+ * of a json root array in parallel. The array is
+ * first scanned for the bounds of its elements,
+ * and then split in chunks of elements, each one
+ * parsed by its own tokenizer into its own slot
+ */
+final class ParallelArrayTask extends RecursiveAction {
+
+    private final static long serialVersionUID = 1L;
+
+    private final byte[] data;
+    private final int[] bounds;
+    private final JsonArray array;
+    private final JsonInstance[] slots;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    /**
+     * Initialize the task
+     *
+     * @param data the raw json data
+     * @param bounds the elements bounds
+     * @param array the root array
+     * @param slots the elements slots
+     * @param from the first element to parse
+     * @param to the last element to parse (exclusive)
+     * @param threshold the amount of elements under
+     *                  which the task is not split anymore
+     */
+    private ParallelArrayTask(final byte[] data, final int[] bounds, final JsonArray array, final JsonInstance[] slots,
+                              final int from, final int to, final int threshold) {
+        this.data = data;
+        this.bounds = bounds;
+        this.array = array;
+        this.slots = slots;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Parse the root array
+     *
+     * @param data the raw json data
+     * @param open the index of the array opening bracket
+     * @param pool the pool to parse the elements in
+     * @return the array
+     * @throws KsonException if the json is malformed
+     */
+    static JsonArray read(final byte[] data, final int open, final ForkJoinPool pool) throws KsonException {
+        int[] bounds = bounds(data, open);
+        int count = bounds[0];
+        for (int index = bounds[count + 1]; index < data.length; index++) {
+            if (!isBlank(data, index, index + 1)) throw new ByteTokenizer(data).malformed(index, "end of json");
+        }
+
+        JsonArray array = JsonArray.newArray("", "");
+        if (count == 1 && isBlank(data, bounds[1], bounds[2] - 1)) return array;
+
+        JsonInstance[] slots = new JsonInstance[count];
+        int threshold = Math.max(1, count / (pool.getParallelism() * 8));
+        try {
+            pool.invoke(new ParallelArrayTask(data, bounds, array, slots, 0, count, threshold));
+        } catch (KsonException ex) {
+            if (ex.getCause() instanceof KsonException) throw (KsonException) ex.getCause();
+            throw ex;
+        }
+
+        for (JsonInstance slot : slots) {
+            array.add(slot);
+        }
+
+        return array;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from > threshold) {
+            int middle = (from + to) >>> 1;
+            invokeAll(new ParallelArrayTask(data, bounds, array, slots, from, middle, threshold),
+                    new ParallelArrayTask(data, bounds, array, slots, middle, to, threshold));
+            return;
+        }
+
+        JsonTokenizer tokenizer = new ByteTokenizer(data);
+        JsonReader reader = new JsonReader(tokenizer, false);
+        String childPath = JsonReader.childPath(array);
+
+        for (int i = from; i < to; i++) {
+            int start = bounds[i + 1];
+            int end = bounds[i + 2] - 1;
+
+            tokenizer.rewind(start, end);
+            JsonToken token = tokenizer.nextToken();
+            if (token == null) {
+                tokenizer.rewind(0, data.length);
+                throw tokenizer.malformed(end, "a value");
+            }
+
+            String key = (token == JsonToken.START_ARRAY ? array.getKey() : "");
+            slots[i] = reader.readValue(token, array, childPath, key);
+            for (int index = tokenizer.position; index < end; index++) {
+                if (!isBlank(data, index, index + 1)) throw tokenizer.malformed(index, ", or ]");
+            }
+        }
+    }
+
+    /**
+     * Find the bounds of the array elements. The
+     * first value is the amount of elements, followed
+     * by the start of each element and the end of the
+     * last one, plus one
+     *
+     * @param data the raw json data
+     * @param open the index of the array opening bracket
+     * @return the elements bounds
+     */
+    private static int[] bounds(final byte[] data, final int open) {
+        int[] bounds = new int[1024];
+        bounds[1] = open + 1;
+        int count = 2;
+
+        int depth = 1;
+        int length = data.length;
+        for (int i = open + 1; i < length; i++) {
+            byte character = data[i];
+            if (character == '"') {
+                i++;
+                while (i < length && data[i] != '"') {
+                    if (data[i] == '\\') i++;
+                    i++;
+                }
+
+                if (i >= length) throw new ByteTokenizer(data).malformed(length, "\"");
+                continue;
+            }
+
+            if (character == '{' || character == '[') {
+                depth++;
+            } else if (character == '}' || character == ']') {
+                if (--depth == 0) {
+                    bounds = add(bounds, count++, i + 1);
+                    bounds[0] = count - 2;
+
+                    return bounds;
+                }
+            } else if (character == ',' && depth == 1) {
+                bounds = add(bounds, count++, i + 1);
+            }
+        }
+
+        throw new ByteTokenizer(data).malformed(length, ", or ]");
+    }
+
+    private static int[] add(int[] bounds, final int index, final int bound) {
+        if (index == bounds.length) {
+            int[] grown = new int[index << 1];
+            System.arraycopy(bounds, 0, grown, 0, index);
+            bounds = grown;
+        }
+
+        bounds[index] = bound;
+        return bounds;
+    }
+
+    private static boolean isBlank(final byte[] data, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            byte character = data[i];
+            if (character != ' ' && character != '\t' && character != '\n' && character != '\r') return false;
+        }
+
+        return true;
+    }
+}
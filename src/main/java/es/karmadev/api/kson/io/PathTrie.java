@@ -0,0 +1,72 @@
+package es.karmadev.api.kson.io;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Represents a set of json paths, stored as
+ * a tree of their keys, so a json can be walked
+ * key by key while knowing at each step whether
+ * the key leads to any of the paths
+ */
+final class PathTrie {
+
+    private final Map<String, PathTrie> children = new HashMap<>();
+    private boolean terminal = false;
+
+    private PathTrie() {}
+
+    /**
+     * Build the trie of the paths
+     *
+     * @param separator the path separator
+     * @param paths the paths
+     * @return the paths trie
+     */
+    static PathTrie of(final char separator, final String... paths) {
+        PathTrie root = new PathTrie();
+        for (String path : paths) {
+            if (path == null || path.isEmpty()) continue;
+
+            PathTrie node = root;
+            int start = 0;
+            while (!node.terminal) {
+                int end = path.indexOf(separator, start);
+                String key = (end == -1 ? path.substring(start) : path.substring(start, end));
+
+                node = node.children.computeIfAbsent(key, (k) -> new PathTrie());
+                if (end == -1) {
+                    node.terminal = true;
+                    node.children.clear();
+                }
+
+                start = end + 1;
+            }
+        }
+
+        return root;
+    }
+
+    /**
+     * Get the trie of the paths which
+     * continue through the key
+     *
+     * @param key the key
+     * @return the key trie, or null if no
+     * path continues through the key
+     */
+    PathTrie child(final String key) {
+        return children.get(key);
+    }
+
+    /**
+     * Get if a path ends at this
+     * trie, so the whole element should
+     * be read
+     *
+     * @return if a path ends here
+     */
+    boolean isTerminal() {
+        return terminal;
+    }
+}
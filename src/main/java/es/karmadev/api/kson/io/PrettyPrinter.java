@@ -0,0 +1,110 @@
+package es.karmadev.api.kson.io;
+
+import lombok.NonNull;
+
+/**
+ * Represents the layout of a pretty printed
+ * json, this is, the indentation of each level
+ * and the line separator. The indentation of the
+ * first levels is built once, when the printer is
+ * created, and shared by every write using it
+ */
+@SuppressWarnings("unused")
+public final class PrettyPrinter {
+
+    /**
+     * The number of levels whose
+     * indentation is built ahead
+     */
+    private final static int CACHED_LEVELS = 16;
+
+    /**
+     * The default pretty printer, indenting
+     * with tabs and separating lines with \n
+     */
+    private final static PrettyPrinter TABS = new PrettyPrinter("\t", "\n");
+
+    private final String unit;
+    private final String lineSeparator;
+    private final String[] levels = new String[CACHED_LEVELS];
+
+    /**
+     * Initialize the pretty printer
+     *
+     * @param unit the indentation of a single level
+     * @param lineSeparator the line separator
+     */
+    private PrettyPrinter(final String unit, final String lineSeparator) {
+        this.unit = unit;
+        this.lineSeparator = lineSeparator;
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < CACHED_LEVELS; i++) {
+            levels[i] = builder.toString();
+            builder.append(unit);
+        }
+    }
+
+    /**
+     * Get the pretty printer which indents
+     * with tabs, used by default
+     *
+     * @return the pretty printer
+     */
+    public static PrettyPrinter tabs() {
+        return TABS;
+    }
+
+    /**
+     * Create a pretty printer which
+     * indents with spaces
+     *
+     * @param amount the spaces of each level
+     * @return the pretty printer
+     * @throws IllegalArgumentException if the amount is negative
+     */
+    public static PrettyPrinter spaces(final int amount) throws IllegalArgumentException {
+        if (amount < 0) throw new IllegalArgumentException("Cannot indent with a negative amount of spaces");
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < amount; i++) builder.append(' ');
+
+        return new PrettyPrinter(builder.toString(), "\n");
+    }
+
+    /**
+     * Create a copy of this printer
+     * with another line separator
+     *
+     * @param lineSeparator the line separator
+     * @return the pretty printer
+     */
+    public PrettyPrinter withLineSeparator(final @NonNull String lineSeparator) {
+        return new PrettyPrinter(unit, lineSeparator);
+    }
+
+    /**
+     * Get the line separator
+     *
+     * @return the line separator
+     */
+    public String getLineSeparator() {
+        return lineSeparator;
+    }
+
+    /**
+     * Get the indentation of a level
+     *
+     * @param level the level
+     * @return the level indentation
+     */
+    public String getIndentation(final int level) {
+        if (level <= 0) return "";
+        if (level < CACHED_LEVELS) return levels[level];
+
+        StringBuilder builder = new StringBuilder(levels[CACHED_LEVELS - 1]);
+        for (int i = CACHED_LEVELS - 1; i < level; i++) builder.append(unit);
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,251 @@
+package es.karmadev.api.kson.io;
+
+import es.karmadev.api.kson.JsonInstance;
+import es.karmadev.api.kson.KsonException;
+
+/**
+ * Represents the structural index of a json. The
+ * index is built with a single pass over the raw
+ * json, and holds only the position of each bracket,
+ * colon, comma, string and value, with every bracket
+ * pointing to its pair. The {@link IndexedObject objects}
+ * and {@link IndexedArray arrays} built on top of it
+ * navigate the index, and only build the values which
+ * are actually requested
+ */
+final class StructuralIndex {
+
+    private final byte[] data;
+    private final JsonTokenizer tokenizer;
+    private final JsonReader reader;
+
+    private int[] positions = new int[64];
+    private int[] pairs = new int[64];
+    private int count = 0;
+
+    /**
+     * Index the json
+     *
+     * @param data the raw json data
+     * @param lazyNumbers if numbers should be kept as
+     *                    they were written
+     * @throws KsonException if the json brackets are
+     * not balanced
+     */
+    StructuralIndex(final byte[] data, final boolean lazyNumbers) throws KsonException {
+        this.data = data;
+        this.tokenizer = new ByteTokenizer(data);
+        this.reader = new JsonReader(tokenizer, lazyNumbers);
+
+        build();
+    }
+
+    /**
+     * Get the root element of the json
+     *
+     * @return the root element
+     */
+    JsonInstance root() {
+        if (count == 0) throw malformedAt(data.length, "{ or [");
+
+        int character = data[positions[0]];
+        if (character != '{' && character != '[') throw malformed(0, "{ or [");
+        if (pairs[0] != count - 1) throw malformed(pairs[0] + 1, "end of json");
+
+        if (character == '{') return new IndexedObject("", "", '.', this, 0);
+        return new IndexedArray("", "", '.', this, 0);
+    }
+
+    /**
+     * Get the character at the entry
+     *
+     * @param entry the entry
+     * @return the entry character
+     */
+    int at(final int entry) {
+        return data[positions[entry]];
+    }
+
+    /**
+     * Get the last entry of the value starting
+     * at the entry. That's the closing bracket
+     * for objects and arrays, or the entry itself
+     * for any other value
+     *
+     * @param entry the value entry
+     * @return the value last entry
+     */
+    int end(final int entry) {
+        int character = data[positions[entry]];
+        if (character == '{' || character == '[') return pairs[entry];
+
+        return entry;
+    }
+
+    /**
+     * Make sure a value starts at the entry
+     *
+     * @param entry the entry
+     * @throws KsonException if the entry is not a value
+     */
+    void requireValue(final int entry) throws KsonException {
+        int character = data[positions[entry]];
+        if (character == ',' || character == ':' || character == '}' || character == ']') {
+            throw malformed(entry, "a value");
+        }
+    }
+
+    /**
+     * Read the object key at the entry
+     *
+     * @param entry the key entry
+     * @return the key
+     */
+    String key(final int entry) {
+        tokenizer.rewindName(positions[entry], positions[entry + 1]);
+        tokenizer.nextToken();
+
+        return tokenizer.getName();
+    }
+
+    /**
+     * Build the value at the entry. Objects
+     * and arrays are not read, but indexed
+     * as well
+     *
+     * @param entry the value entry
+     * @param parent the value parent
+     * @param key the value key
+     * @return the value
+     * @throws KsonException if the value is malformed
+     */
+    JsonInstance value(final int entry, final JsonInstance parent, final String key) throws KsonException {
+        String childPath = JsonReader.childPath(parent);
+
+        int character = data[positions[entry]];
+        if (character == '{') return new IndexedObject(childPath, key, parent.getPathSeparator(), this, entry);
+        if (character == '[') return new IndexedArray(childPath, key, '.', this, entry);
+
+        tokenizer.rewind(positions[entry], positions[entry + 1]);
+        JsonInstance value = reader.readValue(tokenizer.nextToken(), parent, childPath, key);
+        tokenizer.nextToken();
+
+        return value;
+    }
+
+    /**
+     * Create a malformed json exception
+     * for the entry
+     *
+     * @param entry the entry
+     * @param expected what was expected instead
+     * @return the exception
+     */
+    KsonException malformed(final int entry, final String expected) {
+        return malformedAt(positions[entry], expected);
+    }
+
+    private KsonException malformedAt(final int index, final String expected) {
+        String got = (index < data.length ? String.valueOf((char) (data[index] & 0xFF)) : "end of json");
+        return new KsonException("Malformed json at index " + index + ". Expected " + expected + " but got " + got);
+    }
+
+    private void build() {
+        int[] open = new int[16];
+        int depth = 0;
+
+        byte[] data = this.data;
+        int length = data.length;
+        for (int i = 0; i < length; i++) {
+            byte character = data[i];
+            switch (character) {
+                case ' ':
+                case '\t':
+                case '\n':
+                case '\r':
+                    break;
+                case '"':
+                    add(i);
+                    i = stringEnd(i);
+                    break;
+                case '{':
+                case '[':
+                    if (depth == open.length) {
+                        int[] grown = new int[depth << 1];
+                        System.arraycopy(open, 0, grown, 0, depth);
+                        open = grown;
+                    }
+
+                    open[depth++] = add(i);
+                    break;
+                case '}':
+                case ']':
+                    int entry = add(i);
+                    if (depth == 0) throw malformedAt(i, (entry == 0 ? "{ or [" : "end of json"));
+
+                    int pair = open[--depth];
+                    if (data[positions[pair]] == '{' && character != '}') throw malformedAt(i, ", or }");
+                    if (data[positions[pair]] == '[' && character != ']') throw malformedAt(i, ", or ]");
+
+                    pairs[pair] = entry;
+                    break;
+                case ':':
+                case ',':
+                    add(i);
+                    break;
+                default:
+                    add(i);
+                    while (i + 1 < length && !isDelimiter(data[i + 1])) i++;
+                    break;
+            }
+        }
+
+        if (depth > 0) throw malformedAt(length, (data[positions[open[depth - 1]]] == '{' ? ", or }" : ", or ]"));
+    }
+
+    private int stringEnd(final int start) {
+        byte[] data = this.data;
+        int length = data.length;
+        for (int i = start + 1; i < length; i++) {
+            byte character = data[i];
+            if (character == '"') return i;
+            if (character == '\\') i++;
+        }
+
+        throw malformedAt(length, "\"");
+    }
+
+    private static boolean isDelimiter(final byte character) {
+        switch (character) {
+            case ' ':
+            case '\t':
+            case '\n':
+            case '\r':
+            case '"':
+            case '{':
+            case '}':
+            case '[':
+            case ']':
+            case ':':
+            case ',':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private int add(final int position) {
+        if (count == positions.length) {
+            int[] grown = new int[count << 1];
+            System.arraycopy(positions, 0, grown, 0, count);
+            positions = grown;
+
+            grown = new int[count << 1];
+            System.arraycopy(pairs, 0, grown, 0, count);
+            pairs = grown;
+        }
+
+        positions[count] = position;
+        return count++;
+    }
+}
@@ -0,0 +1,115 @@
+package es.karmadev.api.kson.io;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Represents the decoding of utf-8 json
+ * text. Most json text is plain ascii, so ascii
+ * runs are found eight bytes at a time, and copied
+ * as they are, leaving the multi byte decoding only
+ * for the characters which really need it. Malformed
+ * sequences are decoded as the replacement character,
+ * as {@link String} does
+ */
+final class Utf8 {
+
+    private final static char REPLACEMENT = '\uFFFD';
+
+    private Utf8() {}
+
+    /**
+     * Decode a byte range
+     *
+     * @param data the bytes
+     * @param start the range start
+     * @param end the range end (exclusive)
+     * @return the decoded text
+     */
+    static String decode(final byte[] data, final int start, final int end) {
+        int index = ascii(data, start, end);
+        if (index == end) return new String(data, start, end - start, StandardCharsets.ISO_8859_1);
+
+        char[] chars = new char[end - start];
+        int count = 0;
+        for (int i = start; i < index; i++) chars[count++] = (char) data[i];
+
+        while (index < end) {
+            int run = ascii(data, index, end);
+            while (index < run) chars[count++] = (char) data[index++];
+            if (index == end) break;
+
+            int lead = data[index++] & 0xFF;
+            if (lead >= 0xC2 && lead <= 0xDF) {
+                if (index < end && isContinuation(data[index])) {
+                    chars[count++] = (char) (((lead & 0x1F) << 6) | (data[index++] & 0x3F));
+                    continue;
+                }
+            } else if (lead >= 0xE0 && lead <= 0xEF) {
+                int min = (lead == 0xE0 ? 0xA0 : 0x80);
+                int max = (lead == 0xED ? 0x9F : 0xBF);
+
+                if (index < end && inRange(data[index], min, max)) {
+                    int second = data[index++] & 0x3F;
+                    if (index < end && isContinuation(data[index])) {
+                        chars[count++] = (char) (((lead & 0x0F) << 12) | (second << 6) | (data[index++] & 0x3F));
+                        continue;
+                    }
+                }
+            } else if (lead >= 0xF0 && lead <= 0xF4) {
+                int min = (lead == 0xF0 ? 0x90 : 0x80);
+                int max = (lead == 0xF4 ? 0x8F : 0xBF);
+
+                if (index < end && inRange(data[index], min, max)) {
+                    int second = data[index++] & 0x3F;
+                    if (index < end && isContinuation(data[index])) {
+                        int third = data[index++] & 0x3F;
+                        if (index < end && isContinuation(data[index])) {
+                            int point = ((lead & 0x07) << 18) | (second << 12) | (third << 6) | (data[index++] & 0x3F);
+                            chars[count++] = Character.highSurrogate(point);
+                            chars[count++] = Character.lowSurrogate(point);
+                            continue;
+                        }
+                    }
+                }
+            }
+
+            chars[count++] = REPLACEMENT;
+        }
+
+        return new String(chars, 0, count);
+    }
+
+    /**
+     * Find the end of the ascii run
+     * starting at the index. The bytes are
+     * checked eight at a time, since a single
+     * sign check of all of them combined tells
+     * if any of them is not ascii
+     *
+     * @param data the bytes
+     * @param start the run start
+     * @param end the range end (exclusive)
+     * @return the index of the first byte
+     * which is not ascii, or the end
+     */
+    static int ascii(final byte[] data, final int start, final int end) {
+        int index = start;
+        int blocks = end - 7;
+        while (index < blocks && (data[index] | data[index + 1] | data[index + 2] | data[index + 3]
+                | data[index + 4] | data[index + 5] | data[index + 6] | data[index + 7]) >= 0) {
+            index += 8;
+        }
+
+        while (index < end && data[index] >= 0) index++;
+        return index;
+    }
+
+    private static boolean isContinuation(final byte value) {
+        return (value & 0xC0) == 0x80;
+    }
+
+    private static boolean inRange(final byte value, final int min, final int max) {
+        int unit = value & 0xFF;
+        return unit >= min && unit <= max;
+    }
+}
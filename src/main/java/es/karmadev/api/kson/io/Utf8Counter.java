@@ -0,0 +1,130 @@
+package es.karmadev.api.kson.io;
+
+import java.io.Writer;
+
+/**
+ * Represents a writer which writes nothing,
+ * but counts the bytes the written characters
+ * take once encoded as utf-8, the same way
+ * {@link Utf8Writer} encodes them
+ */
+final class Utf8Counter extends Writer {
+
+    private long count = 0;
+    private boolean surrogate = false;
+
+    /**
+     * Writes a single character.
+     *
+     * @param c int specifying a character to be written
+     */
+    @Override
+    public void write(final int c) {
+        count((char) c);
+    }
+
+    /**
+     * Writes a portion of an array of characters.
+     *
+     * @param chars Array of characters
+     * @param offset Offset from which to start writing characters
+     * @param length Number of characters to write
+     */
+    @Override
+    public void write(final char[] chars, final int offset, final int length) {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            char character = chars[i];
+            if (character < 0x80 && !surrogate) {
+                count++;
+            } else {
+                count(character);
+            }
+        }
+    }
+
+    /**
+     * Writes a portion of a string.
+     *
+     * @param str A String
+     * @param offset Offset from which to start writing characters
+     * @param length Number of characters to write
+     */
+    @Override
+    public void write(final String str, final int offset, final int length) {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            char character = str.charAt(i);
+            if (character < 0x80 && !surrogate) {
+                count++;
+            } else {
+                count(character);
+            }
+        }
+    }
+
+    /**
+     * Writes a string.
+     *
+     * @param str String to be written
+     */
+    @Override
+    public void write(final String str) {
+        write(str, 0, str.length());
+    }
+
+    /**
+     * Flushes the stream. This does
+     * nothing, as nothing is written
+     */
+    @Override
+    public void flush() {}
+
+    /**
+     * Closes the stream. This does
+     * nothing, as nothing is written
+     */
+    @Override
+    public void close() {}
+
+    /**
+     * Get the counted bytes
+     *
+     * @return the utf-8 length of the
+     * written characters
+     */
+    long getCount() {
+        return surrogate ? count + 1 : count;
+    }
+
+    /**
+     * Count a character which is not ascii,
+     * or which follows a high surrogate
+     *
+     * @param character the character
+     */
+    private void count(final char character) {
+        if (surrogate) {
+            surrogate = false;
+
+            if (Character.isLowSurrogate(character)) {
+                count += 4;
+                return;
+            }
+
+            count++;
+        }
+
+        if (character < 0x80) {
+            count++;
+        } else if (character < 0x800) {
+            count += 2;
+        } else if (Character.isHighSurrogate(character)) {
+            surrogate = true;
+        } else if (Character.isLowSurrogate(character)) {
+            count++;
+        } else {
+            count += 3;
+        }
+    }
+}
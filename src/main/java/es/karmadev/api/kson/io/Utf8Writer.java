@@ -0,0 +1,240 @@
+package es.karmadev.api.kson.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+
+/**
+ * Represents a writer which encodes the written
+ * characters straight into utf-8 bytes, without going
+ * through a charset encoder. Ascii runs, which are most
+ * of any json, are copied byte by byte in a tight loop,
+ * and only the rest of characters are really encoded. The
+ * bytes are buffered, and moved to the target once the
+ * buffer is full or the writer is flushed
+ */
+final class Utf8Writer extends Writer {
+
+    private final OutputStream stream;
+    private final ByteBuffer target;
+
+    private byte[] buffer = BufferRecycler.get().takeBytes(JsonTokenizer.DEFAULT_BUFFER_SIZE);
+    private int position = 0;
+    private int surrogate = 0;
+
+    /**
+     * Initialize the writer
+     *
+     * @param stream the stream to write the bytes to
+     */
+    Utf8Writer(final OutputStream stream) {
+        this.stream = stream;
+        this.target = null;
+    }
+
+    /**
+     * Initialize the writer
+     *
+     * @param target the buffer to write the bytes to
+     */
+    Utf8Writer(final ByteBuffer target) {
+        this.stream = null;
+        this.target = target;
+    }
+
+    /**
+     * Writes a single character.
+     *
+     * @param c int specifying a character to be written
+     * @throws IOException If an I/O error occurs
+     */
+    @Override
+    public void write(final int c) throws IOException {
+        if (buffer.length - position < 8) drain();
+
+        char character = (char) c;
+        if (character < 0x80 && surrogate == 0) {
+            buffer[position++] = (byte) character;
+            return;
+        }
+
+        encode(character);
+    }
+
+    /**
+     * Writes a portion of an array of characters.
+     *
+     * @param chars Array of characters
+     * @param offset Offset from which to start writing characters
+     * @param length Number of characters to write
+     * @throws IOException If an I/O error occurs
+     */
+    @Override
+    public void write(final char[] chars, final int offset, final int length) throws IOException {
+        int index = offset;
+        int end = offset + length;
+        while (index < end) {
+            if (buffer.length - position < 8) drain();
+            if (surrogate != 0) {
+                encode(chars[index++]);
+                continue;
+            }
+
+            int run = Math.min(end, index + buffer.length - position - 4);
+            byte[] data = buffer;
+            int at = position;
+            char character;
+            while (index < run && (character = chars[index]) < 0x80) {
+                data[at++] = (byte) character;
+                index++;
+            }
+
+            position = at;
+            if (index < run) encode(chars[index++]);
+        }
+    }
+
+    /**
+     * Writes a portion of a string.
+     *
+     * @param str A String
+     * @param offset Offset from which to start writing characters
+     * @param length Number of characters to write
+     * @throws IOException If an I/O error occurs
+     */
+    @Override
+    public void write(final String str, final int offset, final int length) throws IOException {
+        int index = offset;
+        int end = offset + length;
+        while (index < end) {
+            if (buffer.length - position < 8) drain();
+            if (surrogate != 0) {
+                encode(str.charAt(index++));
+                continue;
+            }
+
+            int run = Math.min(end, index + buffer.length - position - 4);
+            byte[] data = buffer;
+            int at = position;
+            char character;
+            while (index < run && (character = str.charAt(index)) < 0x80) {
+                data[at++] = (byte) character;
+                index++;
+            }
+
+            position = at;
+            if (index < run) encode(str.charAt(index++));
+        }
+    }
+
+    /**
+     * Writes a string.
+     *
+     * @param str String to be written
+     * @throws IOException If an I/O error occurs
+     */
+    @Override
+    public void write(final String str) throws IOException {
+        write(str, 0, str.length());
+    }
+
+    /**
+     * Flushes the stream, moving all the
+     * buffered bytes to the target
+     *
+     * @throws IOException If an I/O error occurs
+     */
+    @Override
+    public void flush() throws IOException {
+        if (surrogate != 0) {
+            surrogate = 0;
+
+            if (position == buffer.length) drain();
+            buffer[position++] = '?';
+        }
+
+        drain();
+    }
+
+    /**
+     * Closes the stream, flushing it first, and
+     * giving the buffer back to the recycler. The
+     * target itself is not closed
+     *
+     * @throws IOException If an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) return;
+
+        flush();
+        release();
+    }
+
+    /**
+     * Give the buffer back to the recycler,
+     * dropping the bytes not flushed yet. The
+     * writer can't be used anymore after this
+     */
+    void release() {
+        if (buffer == null) return;
+
+        BufferRecycler.get().giveBytes(buffer);
+        buffer = null;
+    }
+
+    /**
+     * Encode a character which is not ascii,
+     * or which follows a high surrogate. There's
+     * always room for four bytes when this is called,
+     * which is the most a character, plus a lone
+     * surrogate before it, can take
+     *
+     * @param character the character
+     */
+    private void encode(final char character) {
+        if (surrogate != 0) {
+            int high = surrogate;
+            surrogate = 0;
+
+            if (Character.isLowSurrogate(character)) {
+                int point = Character.toCodePoint((char) high, character);
+                buffer[position++] = (byte) (0xF0 | (point >> 18));
+                buffer[position++] = (byte) (0x80 | ((point >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((point >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (point & 0x3F));
+                return;
+            }
+
+            buffer[position++] = '?';
+        }
+
+        if (character < 0x80) {
+            buffer[position++] = (byte) character;
+        } else if (character < 0x800) {
+            buffer[position++] = (byte) (0xC0 | (character >> 6));
+            buffer[position++] = (byte) (0x80 | (character & 0x3F));
+        } else if (Character.isHighSurrogate(character)) {
+            surrogate = character;
+        } else if (Character.isLowSurrogate(character)) {
+            buffer[position++] = '?';
+        } else {
+            buffer[position++] = (byte) (0xE0 | (character >> 12));
+            buffer[position++] = (byte) (0x80 | ((character >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (character & 0x3F));
+        }
+    }
+
+    private void drain() throws IOException {
+        if (position == 0) return;
+
+        if (stream != null) {
+            stream.write(buffer, 0, position);
+        } else {
+            target.put(buffer, 0, position);
+        }
+
+        position = 0;
+    }
+}
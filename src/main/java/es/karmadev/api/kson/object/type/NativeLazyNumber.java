@@ -0,0 +1,353 @@
+package es.karmadev.api.kson.object.type;
+
+import es.karmadev.api.kson.JsonArray;
+import es.karmadev.api.kson.JsonInstance;
+import es.karmadev.api.kson.JsonNative;
+import es.karmadev.api.kson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Represents a native number element which
+ * keeps the number as it was written on the
+ * json. The number is only converted when one
+ * of its values is requested, and it's written
+ * back exactly as it was read
+ */
+public final class NativeLazyNumber extends JsonNative {
+
+    /**
+     * A small value used to determine if the numeric value is considered true
+     * when converting to a boolean. Helps handle precision issues.
+     */
+    private final static double EPSILON = 0.99999999999999999999999999999999999;
+
+    private final String raw;
+    private Number number;
+
+    /**
+     * Initialize the native number
+     *
+     * @param key the key
+     * @param raw the number, as written on the json
+     * @throws IllegalArgumentException if the raw text
+     * is not a json number
+     */
+    public NativeLazyNumber(final String key, final @NotNull String raw) throws IllegalArgumentException {
+        this("", key, '.', raw);
+    }
+
+    /**
+     * Initialize the native number
+     *
+     * @param path the element path
+     * @param key the element key
+     * @param pathSeparator the path separator
+     * @param raw the number, as written on the json
+     * @throws IllegalArgumentException if the raw text
+     * is not a json number
+     */
+    public NativeLazyNumber(final String path, final String key, final char pathSeparator, final @NotNull String raw) throws IllegalArgumentException {
+        super(path, key, pathSeparator);
+        if (!isNumber(raw)) throw new IllegalArgumentException("Cannot create a lazy number out of " + raw + " because it's not a json number");
+
+        this.raw = raw;
+    }
+
+    /**
+     * Get the element size
+     *
+     * @return the element size
+     */
+    @Override
+    public int size() {
+        return raw.length();
+    }
+
+    /**
+     * Get if the object is empty. The expected
+     * behaviours are the following:
+     * <ul>
+     *     <li>{@link JsonObject objects} - Return true if the object has no keys defined</li>
+     *     <li>{@link JsonArray arrays} - Return true if the array has no elements</li>
+     *     <li>{@link JsonNative natives} - Returns true if the native type is string, and is empty, or if the native type is null</li>
+     * </ul>
+     *
+     * @return if the object is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    /**
+     * Clone the element on the new path and
+     * the new path separator
+     *
+     * @param newPath       the path
+     * @param newKey        the key
+     * @param pathSeparator the path separator
+     * @return the new instance
+     */
+    @Override
+    public JsonInstance clone(final String newPath, final String newKey, final char pathSeparator) {
+        return new NativeLazyNumber(newPath, newKey, pathSeparator, raw);
+    }
+
+    /**
+     * Returns whether the element
+     * is a string
+     *
+     * @return if the element is a string
+     */
+    @Override
+    public boolean isString() {
+        return false;
+    }
+
+    /**
+     * Returns whether the element
+     * is a number
+     *
+     * @return if the element is a number
+     */
+    @Override
+    public boolean isNumber() {
+        return true;
+    }
+
+    /**
+     * Returns whether the element is a
+     * boolean
+     *
+     * @return if the element is a boolean
+     */
+    @Override
+    public boolean isBoolean() {
+        return false;
+    }
+
+    /**
+     * Get the string value of the element
+     *
+     * @return the string value
+     * @throws UnsupportedOperationException if the element
+     *                                       is not a string
+     */
+    @Override
+    public @NotNull String getString() throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Cannot cast number to string");
+    }
+
+    /**
+     * Get the number value of the element. The
+     * number is converted the first time it's
+     * requested, into the narrowest type which
+     * holds it
+     *
+     * @return the number element
+     * @throws UnsupportedOperationException if the element
+     *                                       is not a number
+     */
+    @Override
+    public @NotNull Number getNumber() throws UnsupportedOperationException {
+        if (number == null) number = resolve();
+        return number;
+    }
+
+    /**
+     * Get the boolean value of the element
+     *
+     * @return the boolean element
+     * @throws UnsupportedOperationException if the element
+     *                                       is not a number
+     */
+    @Override
+    public boolean getBoolean() throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Cannot cast number to boolean");
+    }
+
+    /**
+     * Get the string value of the element. The
+     * main difference between this method and
+     * {@link #getString()} is that this method tries
+     * to converse the current element type into the
+     * requested one. If it fails, it returns null
+     *
+     * @return the string value
+     */
+    @Override
+    public @Nullable String getAsString() {
+        return raw;
+    }
+
+    /**
+     * Get the number value of the element. The
+     * main difference between this method and
+     * {@link #getNumber()} is that this method tries
+     * to converse the current element type into the
+     * requested one. If it fails, it returns null
+     *
+     * @return the number element
+     */
+    @Override
+    public @Nullable Number getAsNumber() {
+        return getNumber();
+    }
+
+    /**
+     * Get the boolean value of the element. The
+     * main difference between this method and
+     * {@link #getBoolean()} is that this method tries
+     * to converse the current element type into the
+     * requested one. If it fails, it returns null
+     *
+     * @return the boolean element
+     */
+    @Override
+    public @NotNull Boolean getAsBoolean() {
+        return getDouble() > EPSILON;
+    }
+
+    /**
+     * Get the double value of the element
+     *
+     * @return the number element
+     */
+    @Override
+    public double getDouble() {
+        if (number != null) return number.doubleValue();
+        return Double.parseDouble(raw);
+    }
+
+    /**
+     * Get the big decimal value of the element. The
+     * value is built from the number as it was written
+     * on the json, so no precision is lost
+     *
+     * @return the number element
+     */
+    @Override
+    public BigDecimal getBigDecimal() {
+        return new BigDecimal(raw);
+    }
+
+    /**
+     * Get the big integer value of the element
+     *
+     * @return the number element
+     */
+    @Override
+    public BigInteger getBigInteger() {
+        if (isIntegral()) return new BigInteger(raw);
+        return getBigDecimal().toBigInteger();
+    }
+
+    /**
+     * Returns a string representation of the object. In general, the
+     * {@code toString} method returns a string that
+     * "textually represents" this object. The result should
+     * be a concise but informative representation that is easy for a
+     * person to read.
+     * It is recommended that all subclasses override this method.
+     * <p>
+     * The {@code toString} method for class {@code Object}
+     * returns a string consisting of the name of the class of which the
+     * object is an instance, the at-sign character `{@code @}', and
+     * the unsigned hexadecimal representation of the hash code of the
+     * object. In other words, this method returns a string equal to the
+     * value of:
+     * <blockquote>
+     * <pre>
+     * getClass().getName() + '@' + Integer.toHexString(hashCode())
+     * </pre></blockquote>
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return raw;
+    }
+
+    /**
+     * Get if the text is a json number,
+     * this is, an optional minus sign, the
+     * integer digits, without leading zeros, and
+     * the optional fraction and exponent
+     *
+     * @param text the text
+     * @return if the text is a json number
+     */
+    private static boolean isNumber(final String text) {
+        int length = text.length();
+        int index = (length > 0 && text.charAt(0) == '-' ? 1 : 0);
+
+        if (index < length && text.charAt(index) == '0') {
+            index++;
+        } else {
+            int start = index;
+            index = digits(text, index);
+            if (index == start) return false;
+        }
+
+        if (index < length && text.charAt(index) == '.') {
+            int start = ++index;
+            index = digits(text, index);
+            if (index == start) return false;
+        }
+
+        if (index < length && (text.charAt(index) == 'e' || text.charAt(index) == 'E')) {
+            index++;
+            if (index < length && (text.charAt(index) == '+' || text.charAt(index) == '-')) index++;
+
+            int start = index;
+            index = digits(text, index);
+            if (index == start) return false;
+        }
+
+        return index == length;
+    }
+
+    private static int digits(final String text, int index) {
+        while (index < text.length() && text.charAt(index) >= '0' && text.charAt(index) <= '9') index++;
+        return index;
+    }
+
+    private boolean isIntegral() {
+        for (int i = 0; i < raw.length(); i++) {
+            char character = raw.charAt(i);
+            if (character == '.' || character == 'e' || character == 'E') return false;
+        }
+
+        return true;
+    }
+
+    private Number resolve() {
+        if (!isIntegral()) return Double.parseDouble(raw);
+
+        boolean negative = raw.charAt(0) == '-';
+        long value = 0;
+        for (int i = (negative ? 1 : 0); i < raw.length(); i++) {
+            int digit = raw.charAt(i) - '0';
+            if (value < Long.MIN_VALUE / 10 || (value == Long.MIN_VALUE / 10 && digit > 8)) {
+                return Double.parseDouble(raw);
+            }
+
+            value = value * 10 - digit;
+        }
+
+        if (!negative) {
+            if (value == Long.MIN_VALUE) return Double.parseDouble(raw);
+            value = -value;
+        }
+
+        if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) return (byte) value;
+        if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) return (short) value;
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) return (int) value;
+
+        return value;
+    }
+}
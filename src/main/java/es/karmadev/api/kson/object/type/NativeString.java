@@ -4,6 +4,7 @@ import es.karmadev.api.kson.JsonArray;
 import es.karmadev.api.kson.JsonInstance;
 import es.karmadev.api.kson.JsonNative;
 import es.karmadev.api.kson.JsonObject;
+import es.karmadev.api.kson.io.JsonWriter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -236,6 +237,6 @@ public final class NativeString extends JsonNative {
     @Override
     public String toString() {
         if (string == null) return "null";
-        return String.format("\"%s\"", string);
+        return new JsonWriter(this).export();
     }
 }